@@ -0,0 +1,352 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+/**
+ * Records every top-level class declaring {@code @Command} or {@code @Completer}
+ * methods into {@value #INDEX_LOCATION}, so the framework can register a
+ * package without scanning the class path.
+ * <p>
+ * For every class declaring such methods a dispatcher is generated as well,
+ * which calls the methods directly instead of through reflection. See
+ * {@code dev.despical.commandframework.CommandDispatcher}.
+ * <p>
+ * Annotations are matched by name, this module does not depend on the framework.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@SupportedAnnotationTypes({
+    CommandProcessor.COMMAND_ANNOTATION,
+    CommandProcessor.COMPLETER_ANNOTATION
+})
+public class CommandProcessor extends AbstractProcessor {
+
+    static final String COMMAND_ANNOTATION = "dev.despical.commandframework.annotations.Command";
+    static final String COMPLETER_ANNOTATION = "dev.despical.commandframework.annotations.Completer";
+
+    /**
+     * Must match the location read by the framework.
+     */
+    static final String INDEX_LOCATION = "META-INF/commandframework/commands.idx";
+
+    static final String DISPATCHER_INTERFACE = "dev.despical.commandframework.CommandDispatcher";
+
+    /**
+     * Must match {@code CommandDispatcher.CLASS_SUFFIX}.
+     */
+    static final String DISPATCHER_SUFFIX = "_CommandDispatcher";
+
+    private final Set<String> indexedClasses = new TreeSet<>();
+    private boolean previousIndexRead;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!previousIndexRead) {
+            readPreviousIndex();
+            previousIndexRead = true;
+        }
+
+        Map<TypeElement, Set<ExecutableElement>> methodsByClass = new LinkedHashMap<>();
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.METHOD) {
+                    continue;
+                }
+
+                TypeElement topLevelClass = topLevelClassOf(element);
+
+                if (topLevelClass != null) {
+                    indexedClasses.add(processingEnv.getElementUtils().getBinaryName(topLevelClass).toString());
+                }
+
+                methodsByClass.computeIfAbsent((TypeElement) element.getEnclosingElement(), key -> new LinkedHashSet<>())
+                    .add((ExecutableElement) element);
+            }
+        }
+
+        methodsByClass.forEach(this::generateDispatcher);
+
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+
+        return false;
+    }
+
+    /**
+     * Keeps the entries of an incremental build's previous index, as long as
+     * the classes still exist.
+     */
+    private void readPreviousIndex() {
+        Filer filer = processingEnv.getFiler();
+
+        try {
+            FileObject previous = filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+
+            try (BufferedReader reader = new BufferedReader(previous.openReader(true))) {
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+
+                    if (!line.isEmpty() && !line.startsWith("#") && processingEnv.getElementUtils().getTypeElement(line) != null) {
+                        indexedClasses.add(line);
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // No previous index, this is a clean build.
+        }
+    }
+
+    private void writeIndex() {
+        if (indexedClasses.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject index = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+
+            try (Writer writer = index.openWriter()) {
+                for (String className : indexedClasses) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not write the command index: " + exception.getMessage());
+        }
+    }
+
+    private void generateDispatcher(TypeElement type, Set<ExecutableElement> methods) {
+        if (!isReachableFromPackage(type)) {
+            return;
+        }
+
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(type).toString();
+        String dispatcherName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + DISPATCHER_SUFFIX;
+        String typeName = canonicalNameOf(types.erasure(type.asType()));
+
+        StringBuilder cases = new StringBuilder();
+
+        for (ExecutableElement method : methods) {
+            if (method.getModifiers().contains(Modifier.PRIVATE) || !areParametersAccessible(method, packageName)) {
+                continue;
+            }
+
+            List<? extends VariableElement> parameters = method.getParameters();
+            StringJoiner signature = new StringJoiner(",", method.getSimpleName() + "(", ")");
+            StringJoiner arguments = new StringJoiner(", ");
+
+            for (int i = 0; i < parameters.size(); i++) {
+                String parameterType = canonicalNameOf(types.erasure(parameters.get(i).asType()));
+
+                signature.add(parameterType);
+                arguments.add("(" + parameterType + ") parameters[" + i + "]");
+            }
+
+            String target = method.getModifiers().contains(Modifier.STATIC) ? typeName : "((" + typeName + ") instance)";
+            String call = target + "." + method.getSimpleName() + "(" + arguments + ")";
+
+            cases.append("            case \"").append(signature).append("\" -> parameters -> {\n");
+
+            if (method.getReturnType().getKind() == TypeKind.VOID) {
+                cases.append("                ").append(call).append(";\n");
+                cases.append("                return null;\n");
+            } else {
+                cases.append("                return ").append(call).append(";\n");
+            }
+
+            cases.append("            };\n");
+        }
+
+        if (cases.isEmpty()) {
+            return;
+        }
+
+        StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("@javax.annotation.processing.Generated(\"").append(CommandProcessor.class.getName()).append("\")\n")
+            .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+            .append("public final class ").append(dispatcherName).append(" implements ").append(DISPATCHER_INTERFACE).append(" {\n\n")
+            .append("    @Override\n")
+            .append("    public ").append(DISPATCHER_INTERFACE).append(".Invoker bind(Object instance, String signature) {\n")
+            .append("        return switch (signature) {\n")
+            .append(cases)
+            .append("            default -> null;\n")
+            .append("        };\n")
+            .append("    }\n")
+            .append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? dispatcherName : packageName + "." + dispatcherName;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source.toString());
+        } catch (IOException exception) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate the command dispatcher: " + exception.getMessage(), type);
+        }
+    }
+
+    /**
+     * Returns the name the framework uses for the erased type in method signatures,
+     * which is the canonical name of {@link Class}. Unlike {@link TypeMirror#toString()}
+     * it contains no type annotations and writes varargs as arrays.
+     */
+    static String canonicalNameOf(TypeMirror type) {
+        return switch (type.getKind()) {
+            case ARRAY -> canonicalNameOf(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED -> ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+            default -> type.getKind().name().toLowerCase(Locale.ROOT);
+        };
+    }
+
+    /**
+     * The generated dispatcher casts the parameters to their types, so all of them
+     * must be accessible from the package of the class.
+     */
+    private boolean areParametersAccessible(ExecutableElement method, String packageName) {
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+
+        for (VariableElement parameter : method.getParameters()) {
+            TypeMirror type = types.erasure(parameter.asType());
+
+            while (type.getKind() == TypeKind.ARRAY) {
+                type = ((ArrayType) type).getComponentType();
+            }
+
+            if (type.getKind() != TypeKind.DECLARED) {
+                continue;
+            }
+
+            TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+            boolean samePackage = elements.getPackageOf(typeElement).getQualifiedName().contentEquals(packageName);
+
+            if (samePackage ? !isReachableFromPackage(typeElement) : !isPublic(typeElement)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns whether the type and all of its enclosing classes are public, so it
+     * is accessible from any package.
+     */
+    private static boolean isPublic(TypeElement type) {
+        Element current = type;
+
+        while (current instanceof TypeElement typeElement) {
+            if (!typeElement.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+
+            current = typeElement.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    /**
+     * The dispatcher lives in the package of the class, so the class and all
+     * of its enclosing classes must be accessible from there.
+     */
+    private static boolean isReachableFromPackage(TypeElement type) {
+        Element current = type;
+
+        while (current instanceof TypeElement typeElement) {
+            if (typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+
+            current = typeElement.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    private static TypeElement topLevelClassOf(Element element) {
+        Element current = element.getEnclosingElement();
+        TypeElement topLevel = null;
+
+        while (current != null && current.getKind() != ElementKind.PACKAGE) {
+            if (current instanceof TypeElement type) {
+                topLevel = type;
+            }
+
+            current = current.getEnclosingElement();
+        }
+
+        return topLevel;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.processor.test;
+
+import dev.despical.commandframework.processor.CommandProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compiles command classes with the processor and checks that the generated
+ * dispatchers compile and find the methods by the signatures the framework
+ * builds at runtime.
+ *
+ * @author Despical
+ * <p>
+ * Created at 17.10.2026
+ */
+class CommandProcessorTest {
+
+	private static final String COMMAND = """
+		package dev.despical.commandframework.annotations;
+
+		public @interface Command {
+
+			String name();
+		}
+		""";
+
+	private static final String DISPATCHER = """
+		package dev.despical.commandframework;
+
+		public interface CommandDispatcher {
+
+			Invoker bind(Object instance, String signature);
+
+			interface Invoker {
+
+				Object invoke(Object[] parameters) throws Throwable;
+			}
+		}
+		""";
+
+	private static final String NOT_NULL = """
+		package example;
+
+		@java.lang.annotation.Target(java.lang.annotation.ElementType.TYPE_USE)
+		public @interface NotNull {
+		}
+		""";
+
+	private static final String COMMANDS = """
+		package example;
+
+		import dev.despical.commandframework.annotations.Command;
+
+		public class Commands {
+
+			@Command(name = "varargs")
+			public String varargs(String... arguments) {
+				return String.join(" ", arguments);
+			}
+
+			@Command(name = "annotated")
+			public int annotated(@NotNull String argument, java.util.@NotNull List<String> list, @NotNull String @NotNull [] array) {
+				return list.size() + array.length;
+			}
+
+			@Command(name = "hidden")
+			public void hidden(Secret secret) {
+			}
+
+			@Command(name = "nested")
+			public void nested(Visible visible) {
+			}
+
+			private static class Secret {
+			}
+
+			static class Visible {
+			}
+		}
+		""";
+
+	@TempDir
+	private Path directory;
+
+	private Path sources, classes;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		sources = Files.createDirectories(directory.resolve("sources"));
+		classes = Files.createDirectories(directory.resolve("classes"));
+
+		write("dev/despical/commandframework/annotations/Command.java", COMMAND);
+		write("dev/despical/commandframework/CommandDispatcher.java", DISPATCHER);
+		write("example/NotNull.java", NOT_NULL);
+		write("example/Commands.java", COMMANDS);
+	}
+
+	@Test
+	void testGeneratedDispatcherCompiles() throws IOException {
+		DiagnosticCollector<JavaFileObject> diagnostics = compile();
+
+		assertTrue(diagnostics.getDiagnostics().stream().noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR),
+			diagnostics.getDiagnostics().toString());
+
+		String dispatcher = Files.readString(classes.resolve("example/Commands_CommandDispatcher.java"));
+
+		assertTrue(dispatcher.contains("\"varargs(java.lang.String[])\""), dispatcher);
+		assertTrue(dispatcher.contains("\"annotated(java.lang.String,java.util.List,java.lang.String[])\""), dispatcher);
+		assertTrue(dispatcher.contains("\"nested(example.Commands.Visible)\""), dispatcher);
+		assertFalse(dispatcher.contains("hidden"), dispatcher);
+	}
+
+	@Test
+	void testSignaturesMatchTheRuntimeSignatures() throws Throwable {
+		compile();
+
+		try (URLClassLoader loader = new URLClassLoader(new URL[] {classes.toUri().toURL()})) {
+			Class<?> commandsClass = loader.loadClass("example.Commands");
+			Object commands = commandsClass.getConstructor().newInstance();
+			Object dispatcher = loader.loadClass("example.Commands_CommandDispatcher").getConstructor().newInstance();
+			Method bind = dispatcher.getClass().getMethod("bind", Object.class, String.class);
+			Method invoke = loader.loadClass("dev.despical.commandframework.CommandDispatcher$Invoker").getMethod("invoke", Object[].class);
+
+			Object varargs = bind.invoke(dispatcher, commands, signatureOf(commandsClass, "varargs"));
+			Object annotated = bind.invoke(dispatcher, commands, signatureOf(commandsClass, "annotated"));
+
+			assertNotNull(varargs);
+			assertNotNull(annotated);
+			assertNull(bind.invoke(dispatcher, commands, signatureOf(commandsClass, "hidden")));
+
+			assertEquals("a b", invoke.invoke(varargs, (Object) new Object[] {new String[] {"a", "b"}}));
+			assertEquals(3, invoke.invoke(annotated, (Object) new Object[] {"a", List.of("b"), new String[] {"c", "d"}}));
+		}
+	}
+
+	private DiagnosticCollector<JavaFileObject> compile() throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+			List<Path> files;
+
+			try (var stream = Files.walk(sources)) {
+				files = stream.filter(path -> path.toString().endsWith(".java")).toList();
+			}
+
+			List<String> options = List.of("-d", classes.toString(), "-s", classes.toString());
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjectsFromPaths(files));
+
+			task.setProcessors(List.of(new CommandProcessor()));
+			task.call();
+		}
+
+		return diagnostics;
+	}
+
+	private void write(String path, String source) throws IOException {
+		Path file = sources.resolve(path);
+
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, source);
+	}
+
+	/**
+	 * Builds the signature like the framework does when it binds a method.
+	 */
+	private static String signatureOf(Class<?> clazz, String name) {
+		Method method = Arrays.stream(clazz.getDeclaredMethods())
+			.filter(declared -> declared.getName().equals(name))
+			.findFirst()
+			.orElseThrow();
+		StringJoiner signature = new StringJoiner(",", name + "(", ")");
+
+		for (Class<?> type : method.getParameterTypes()) {
+			signature.add(type.getCanonicalName());
+		}
+
+		return signature.toString();
+	}
+}
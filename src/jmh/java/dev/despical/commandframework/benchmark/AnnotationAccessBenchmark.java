@@ -0,0 +1,110 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.benchmark;
+
+import dev.despical.commandframework.annotations.Command;
+import dev.despical.commandframework.annotations.Confirmation;
+import dev.despical.commandframework.annotations.Cooldown;
+import dev.despical.commandframework.internal.CommandMetadata;
+import dev.despical.commandframework.internal.InvocationPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading command metadata through the reflective annotation proxies,
+ * which is what the dispatch path used to do on every execution, against the
+ * snapshots captured in {@link InvocationPlan} at registration.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnotationAccessBenchmark {
+
+    private Method method;
+    private Command proxy;
+    private CommandMetadata snapshot;
+    private InvocationPlan plan;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        method = BenchmarkCommands.class.getMethod("example");
+        proxy = method.getAnnotation(Command.class);
+        snapshot = CommandMetadata.of(proxy);
+        plan = InvocationPlan.forCommand(snapshot, method);
+    }
+
+    @Benchmark
+    public void annotationProxy(Blackhole blackhole) {
+        blackhole.consume(proxy.permission());
+        blackhole.consume(proxy.onlyOp());
+        blackhole.consume(proxy.senderType());
+        blackhole.consume(proxy.min());
+        blackhole.consume(proxy.max());
+        blackhole.consume(proxy.async());
+        blackhole.consume(method.isAnnotationPresent(Confirmation.class) ? method.getAnnotation(Confirmation.class) : null);
+        blackhole.consume(method.isAnnotationPresent(Cooldown.class) ? method.getAnnotation(Cooldown.class) : null);
+        blackhole.consume(proxy.hashCode());
+    }
+
+    @Benchmark
+    public void metadataSnapshot(Blackhole blackhole) {
+        blackhole.consume(snapshot.permission());
+        blackhole.consume(snapshot.onlyOp());
+        blackhole.consume(snapshot.senderType());
+        blackhole.consume(snapshot.min());
+        blackhole.consume(snapshot.max());
+        blackhole.consume(snapshot.async());
+        blackhole.consume(plan.confirmation());
+        blackhole.consume(plan.cooldown());
+        blackhole.consume(snapshot.hashCode());
+    }
+
+    public static class BenchmarkCommands {
+
+        @Command(
+            name = "example",
+            permission = "example.permission",
+            aliases = {"firstAlias", "secondAlias"},
+            min = 1,
+            max = 5
+        )
+        @Cooldown(5)
+        public void example() {
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.benchmark;
+
+import dev.despical.commandframework.annotations.Command;
+import dev.despical.commandframework.annotations.Flag;
+import dev.despical.commandframework.annotations.Option;
+import dev.despical.commandframework.internal.CommandCache;
+import dev.despical.commandframework.internal.CommandMetadata;
+import dev.despical.commandframework.internal.CommandNode;
+import dev.despical.commandframework.internal.CommandTrie;
+import dev.despical.commandframework.internal.InvocationPlan;
+import dev.despical.commandframework.internal.RegisteredMember;
+import dev.despical.commandframework.parser.OptionSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares matching a command line and parsing its options for every execution
+ * against a hit in the {@link CommandCache}, which shares the parsed options of
+ * the command line, for a few command lines that are executed over and over.
+ *
+ * @author Despical
+ * <p>
+ * Created at 17.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandCacheBenchmark {
+
+    private CommandTrie<Command> trie;
+    private CommandCache cache;
+
+    private String[][] arguments;
+    private int index;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        Method method = CommandCacheBenchmark.class.getDeclaredMethod("give");
+        Command command = method.getAnnotation(Command.class);
+        RegisteredMember<Command> member = new RegisteredMember<>(this, method, null, command, InvocationPlan.forCommand(command, method));
+
+        Map<String, CommandNode<Command>> builder = new HashMap<>();
+        CommandNode<Command> root = builder.computeIfAbsent("arena", key -> new CommandNode<>());
+        root.setMember(RegisteredMember.dummyCommand(CommandMetadata.empty("arena")));
+
+        for (String name : new String[] {"create", "delete", "join", "leave"}) {
+            root.getOrCreateChild(name).setMember(RegisteredMember.dummyCommand(CommandMetadata.empty("arena." + name)));
+        }
+
+        root.getOrCreateChild("give").setMember(member);
+
+        trie = CommandTrie.snapshot(builder);
+        cache = new CommandCache(() -> 256);
+
+        arguments = new String[][] {
+            {"give", "diamond", "--amount=64", "--silent"},
+            {"give", "emerald", "--amount=16"},
+            {"give", "gold_ingot", "--target=Despical", "--amount=8", "--silent"},
+            {"give", "iron_ingot"}
+        };
+    }
+
+    @Benchmark
+    public OptionSchema.Result match() {
+        String[] args = arguments[index++ & 3];
+        RegisteredMember<Command> member = trie.find("arena", args);
+        int offset = member.plan().argumentOffset();
+
+        return member.plan().optionSchema().parse(args, offset, args.length - offset);
+    }
+
+    @Benchmark
+    public OptionSchema.Result cacheHit() {
+        String[] args = arguments[index++ & 3];
+        CommandCache.Entry entry = cache.get("arena", args, trie);
+
+        if (entry == null) {
+            entry = cache.put("arena", args, trie, trie.find("arena", args));
+        }
+
+        return entry.options();
+    }
+
+    @Command(name = "arena.give")
+    @Option(value = "amount")
+    @Option(value = "target")
+    @Flag(value = "silent")
+    private void give() {
+    }
+}
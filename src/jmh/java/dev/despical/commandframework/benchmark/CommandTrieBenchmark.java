@@ -0,0 +1,187 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.benchmark;
+
+import dev.despical.commandframework.annotations.Command;
+import dev.despical.commandframework.internal.CommandMetadata;
+import dev.despical.commandframework.internal.CommandNode;
+import dev.despical.commandframework.internal.CommandTrie;
+import dev.despical.commandframework.internal.RegisteredMember;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups in the compact {@link CommandTrie} against the previous
+ * layout where every node owned a {@link HashMap}, using a tree of about
+ * 600 nodes with typical fan-outs.
+ * <p>
+ * The setup also prints the bytes allocated to build each layout, which
+ * approximates their footprint. Run with {@code -prof gc} to compare the
+ * allocation rate of the lookups.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandTrieBenchmark {
+
+    private static final int ROOTS = 30, SUB_COMMANDS = 4, NESTED_COMMANDS = 4;
+
+    private Map<String, HashMapNode> hashMapTree;
+    private CommandTrie<Command> compactTrie;
+
+    private String[] labels;
+    private String[][] arguments;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Map<String, RegisteredMember<Command>> members = new HashMap<>();
+        List<String> paths = new ArrayList<>();
+
+        for (int root = 0; root < ROOTS; root++) {
+            String rootName = "command" + root;
+            paths.add(rootName);
+
+            for (int sub = 0; sub < SUB_COMMANDS; sub++) {
+                String subName = rootName + ".sub" + sub;
+                paths.add(subName);
+
+                for (int nested = 0; nested < NESTED_COMMANDS; nested++) {
+                    paths.add(subName + ".nested" + nested);
+                }
+            }
+        }
+
+        for (String path : paths) {
+            members.put(path, RegisteredMember.dummyCommand(CommandMetadata.empty(path)));
+        }
+
+        long before = allocatedBytes();
+        hashMapTree = new HashMap<>();
+
+        for (String path : paths) {
+            String[] parts = path.split("\\.");
+            HashMapNode node = hashMapTree.computeIfAbsent(parts[0], key -> new HashMapNode());
+
+            for (int i = 1; i < parts.length; i++) {
+                node = node.children.computeIfAbsent(parts[i], key -> new HashMapNode());
+            }
+
+            node.member = members.get(path);
+        }
+
+        long hashMapBytes = allocatedBytes() - before;
+
+        Map<String, CommandNode<Command>> builder = new HashMap<>();
+
+        for (String path : paths) {
+            String[] parts = path.split("\\.");
+            CommandNode<Command> node = builder.computeIfAbsent(parts[0], key -> new CommandNode<>());
+
+            for (int i = 1; i < parts.length; i++) {
+                node = node.getOrCreateChild(parts[i]);
+            }
+
+            node.setMember(members.get(path));
+        }
+
+        before = allocatedBytes();
+        compactTrie = CommandTrie.snapshot(builder);
+        long compactBytes = allocatedBytes() - before;
+
+        System.out.printf("%n%d nodes, HashMap per node: %d bytes, compact trie: %d bytes%n", paths.size(), hashMapBytes, compactBytes);
+
+        Random random = new Random(42);
+        labels = new String[1024];
+        arguments = new String[1024][];
+
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = "command" + random.nextInt(ROOTS);
+            arguments[i] = new String[] {"sub" + random.nextInt(SUB_COMMANDS), "nested" + random.nextInt(NESTED_COMMANDS), "argument"};
+        }
+    }
+
+    @Benchmark
+    public RegisteredMember<Command> hashMapPerNode() {
+        int i = index++ & 1023;
+        return findInHashMapTree(labels[i], arguments[i]);
+    }
+
+    @Benchmark
+    public RegisteredMember<Command> compactTrie() {
+        int i = index++ & 1023;
+        return compactTrie.find(labels[i], arguments[i]);
+    }
+
+    private RegisteredMember<Command> findInHashMapTree(String label, String[] args) {
+        HashMapNode node = hashMapTree.get(label);
+
+        if (node == null) return null;
+
+        var lastMatch = node.member;
+
+        for (String arg : args) {
+            node = node.children.get(arg);
+
+            if (node == null) {
+                break;
+            }
+
+            if (node.member != null) {
+                lastMatch = node.member;
+            }
+        }
+
+        return lastMatch;
+    }
+
+    private static long allocatedBytes() {
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threadBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private static final class HashMapNode {
+
+        private RegisteredMember<Command> member;
+        private final Map<String, HashMapNode> children = new HashMap<>();
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.benchmark;
+
+import dev.despical.commandframework.annotations.Flag;
+import dev.despical.commandframework.annotations.Option;
+import dev.despical.commandframework.parser.OptionSchema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the option parser that used to scan a copy of the arguments for every
+ * option and flag against a single pass over an {@link OptionSchema} compiled at
+ * registration, for methods with 0, 5 and 50 options.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionParserBenchmark {
+
+    @Param({"0", "5", "50"})
+    private int optionCount;
+
+    private Flag[] flags;
+    private Option[] options;
+    private OptionSchema schema;
+    private String[] arguments;
+
+    @Setup
+    public void setUp() {
+        options = new Option[optionCount];
+
+        for (int i = 0; i < optionCount; i++) {
+            options[i] = option("option" + i);
+        }
+
+        flags = optionCount == 0 ? new Flag[0] : new Flag[] {flag("verbose", "silent")};
+        schema = OptionSchema.compile(flags, options);
+
+        List<String> arguments = new ArrayList<>(List.of("arena", "create", "Lobby", "16"));
+
+        for (int i = 0; i < Math.min(optionCount, 3); i++) {
+            arguments.add(i * 2, "--option" + (i * optionCount / 3) + "=first,second,third");
+        }
+
+        if (optionCount > 0) {
+            arguments.add("--verbose");
+        }
+
+        this.arguments = arguments.toArray(String[]::new);
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        LegacyOptionParser parser = new LegacyOptionParser(arguments, flags, options);
+        blackhole.consume(parser.parseOptions());
+        blackhole.consume(parser.parseFlags());
+    }
+
+    @Benchmark
+    public OptionSchema.Result compiled() {
+        return schema.parse(arguments, 0, arguments.length);
+    }
+
+    private static Option option(String value) {
+        return new Option() {
+
+            @Override
+            public String value() {
+                return value;
+            }
+
+            @Override
+            public String prefix() {
+                return "--";
+            }
+
+            @Override
+            public String valueSeparator() {
+                return ",";
+            }
+
+            @Override
+            public String keySeparator() {
+                return "=";
+            }
+
+            @Override
+            public boolean allowSeparating() {
+                return true;
+            }
+
+            @Override
+            public Class<?> type() {
+                return String.class;
+            }
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return Option.class;
+            }
+        };
+    }
+
+    private static Flag flag(String... values) {
+        return new Flag() {
+
+            @Override
+            public String[] value() {
+                return values;
+            }
+
+            @Override
+            public String prefix() {
+                return "--";
+            }
+
+            @Override
+            public Class<? extends Annotation> annotationType() {
+                return Flag.class;
+            }
+        };
+    }
+
+    /**
+     * The parser as it was before the options were compiled.
+     */
+    private static final class LegacyOptionParser {
+
+        private final Flag[] flags;
+        private final Option[] options;
+        private final Set<String> arguments;
+        private final Set<String> parsedFlags = new HashSet<>();
+        private final Map<String, List<String>> parsedOptions = new HashMap<>();
+
+        LegacyOptionParser(String[] arguments, Flag[] flags, Option[] options) {
+            this.flags = flags;
+            this.options = options;
+            this.arguments = new HashSet<>(Arrays.asList(arguments));
+        }
+
+        Map<String, List<String>> parseOptions() {
+            for (Option option : options) {
+                Iterator<String> iterator = arguments.iterator();
+
+                while (iterator.hasNext()) {
+                    String argument = iterator.next();
+
+                    if (!argument.startsWith(option.prefix())) {
+                        continue;
+                    }
+
+                    String raw = argument.substring(option.prefix().length());
+
+                    if (!raw.startsWith(option.value() + option.keySeparator())) {
+                        continue;
+                    }
+
+                    String valuePart = raw.substring((option.value() + option.keySeparator()).length());
+
+                    if (!option.allowSeparating()) {
+                        parsedOptions.put(option.value(), Collections.singletonList(valuePart));
+                    } else {
+                        parsedOptions.put(option.value(), Arrays.asList(valuePart.split(Pattern.quote(option.valueSeparator()))));
+                    }
+
+                    iterator.remove();
+                    break;
+                }
+            }
+
+            return parsedOptions;
+        }
+
+        Set<String> parseFlags() {
+            for (Flag flag : flags) {
+                Iterator<String> iterator = arguments.iterator();
+
+                while (iterator.hasNext()) {
+                    String argument = iterator.next();
+
+                    if (!argument.startsWith(flag.prefix()) || argument.length() <= flag.prefix().length()) {
+                        continue;
+                    }
+
+                    String foundFlag = argument.substring(flag.prefix().length());
+
+                    for (String flagName : flag.value()) {
+                        if (flagName.equals(foundFlag)) {
+                            parsedFlags.add(flagName);
+                            iterator.remove();
+                            break;
+                        }
+                    }
+                }
+            }
+
+            return parsedFlags;
+        }
+    }
+}
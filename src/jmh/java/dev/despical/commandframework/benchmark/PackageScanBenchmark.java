@@ -0,0 +1,170 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.benchmark;
+
+import dev.despical.commandframework.internal.CommandIntrospector;
+import dev.despical.commandframework.internal.ParameterHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the startup cost of registering a package of a few hundred
+ * synthetic command classes, serially and on the fork-join pool, with
+ * eager and lazy instantiation.
+ * <p>
+ * The classes are compiled once per trial and every invocation loads them
+ * through a fresh class loader, so class loading and linkage are part of
+ * the measured time just like on a server start.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class PackageScanBenchmark {
+
+    private static final String PACKAGE = "dev.despical.commandframework.benchmark.generated";
+
+    @Param({"300"})
+    private int classCount;
+
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    @Param({"false", "true"})
+    private boolean lazy;
+
+    private Path classesDirectory;
+    private List<String> classNames;
+    private URLClassLoader classLoader;
+
+    @Setup(Level.Trial)
+    public void compileClasses() throws IOException {
+        Path sourcesDirectory = Files.createTempDirectory("command-sources");
+        classesDirectory = Files.createTempDirectory("command-classes");
+        classNames = new ArrayList<>(classCount);
+
+        List<String> sourceFiles = new ArrayList<>(classCount);
+        Path packageDirectory = Files.createDirectories(sourcesDirectory.resolve(PACKAGE.replace('.', '/')));
+
+        for (int i = 0; i < classCount; i++) {
+            String className = "GeneratedCommand" + i;
+            Path sourceFile = packageDirectory.resolve(className + ".java");
+
+            Files.writeString(sourceFile, """
+                package %1$s;
+
+                import dev.despical.commandframework.CommandArguments;
+                import dev.despical.commandframework.annotations.Command;
+                import dev.despical.commandframework.annotations.Completer;
+                import dev.despical.commandframework.annotations.Cooldown;
+
+                import java.util.List;
+
+                public class %2$s {
+
+                    @Command(name = "command%3$d", aliases = "alias%3$d", permission = "bench.command%3$d", min = 1)
+                    public void command(CommandArguments arguments) {
+                    }
+
+                    @Command(name = "command%3$d.sub", max = 3)
+                    @Cooldown(5)
+                    public void subCommand(CommandArguments arguments) {
+                    }
+
+                    @Completer(name = "command%3$d")
+                    public List<String> completer(CommandArguments arguments) {
+                        return List.of();
+                    }
+                }
+                """.formatted(PACKAGE, className, i));
+
+            sourceFiles.add(sourceFile.toString());
+            classNames.add(PACKAGE + "." + className);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> arguments = new ArrayList<>(List.of("-proc:none", "-classpath", System.getProperty("java.class.path"),
+            "-d", classesDirectory.toString()));
+        arguments.addAll(sourceFiles);
+
+        if (compiler.run(null, null, null, arguments.toArray(String[]::new)) != 0) {
+            throw new IllegalStateException("Could not compile the synthetic command classes.");
+        }
+
+        deleteRecursively(sourcesDirectory);
+    }
+
+    @Setup(Level.Invocation)
+    public void createClassLoader() throws IOException {
+        classLoader = new URLClassLoader(new URL[] {classesDirectory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeClassLoader() throws IOException {
+        classLoader.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteClasses() throws IOException {
+        deleteRecursively(classesDirectory);
+    }
+
+    @Benchmark
+    public List<CommandIntrospector.ClassResult> registerPackage() {
+        return new CommandIntrospector().introspectAll(classNames, classLoader, new ParameterHandler(), false, parallel, lazy);
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
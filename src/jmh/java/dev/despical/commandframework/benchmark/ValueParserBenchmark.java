@@ -0,0 +1,82 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.benchmark;
+
+import dev.despical.commandframework.parser.ValueParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing arguments by catching {@link NumberFormatException}, which is
+ * what the typed getters used to do, against {@link ValueParser} for valid and
+ * invalid input.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueParserBenchmark {
+
+    @Param({"1250", "-73.5", "abc", "12k"})
+    private String input;
+
+    @Benchmark
+    public int intWithException() {
+        try {
+            return Integer.parseInt(input);
+        } catch (NumberFormatException exception) {
+            return 0;
+        }
+    }
+
+    @Benchmark
+    public int intWithValueParser() {
+        return ValueParser.parseInt(input, 0);
+    }
+
+    @Benchmark
+    public double doubleWithException() {
+        try {
+            return Double.parseDouble(input);
+        } catch (NumberFormatException exception) {
+            return 0D;
+        }
+    }
+
+    @Benchmark
+    public double doubleWithValueParser() {
+        return ValueParser.parseDouble(input, 0D);
+    }
+}
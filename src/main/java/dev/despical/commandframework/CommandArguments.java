@@ -18,9 +18,18 @@
 
 package dev.despical.commandframework;
 
+import com.google.common.primitives.Primitives;
+import dev.despical.commandframework.cooldown.CooldownManager;
+import dev.despical.commandframework.exceptions.CommandException;
+import dev.despical.commandframework.internal.CommandCache;
+import dev.despical.commandframework.internal.ConverterRegistry;
 import dev.despical.commandframework.internal.FrameworkContext;
+import dev.despical.commandframework.internal.InvocationPlan;
 import dev.despical.commandframework.internal.MessageHelper;
-import dev.despical.commandframework.utils.Utils;
+import dev.despical.commandframework.internal.ParameterHandler;
+import dev.despical.commandframework.parser.OptionSchema;
+import dev.despical.commandframework.parser.TokenizedArguments;
+import dev.despical.commandframework.parser.ValueParser;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
@@ -32,11 +41,20 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.text.MessageFormat;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 /**
  * A utility class to use command arguments without external
@@ -48,14 +66,29 @@ import java.util.Set;
  */
 public class CommandArguments {
 
-    private Set<String> parsedFlags;
-    private Map<String, List<String>> parsedOptions;
+    private static final Object NULL = new Object();
+    private static final Object RESOLVING = new Object();
+
+    private InvocationPlan invocationPlan;
+
+    // Options and flags are parsed on first access, sub-arguments use the ones of their source.
+    private CommandArguments optionSource = this;
+    private OptionSchema.Result parsedOptions;
+    private CommandCache.Entry cachedMatch;
+    private TokenizedArguments tokens;
 
     private final dev.despical.commandframework.annotations.Command command;
     private final CommandSender commandSender;
     private final Command bukkitCommand;
     private final String label;
+
+    // A view over the arguments array Bukkit passed, starting after the sub-command path.
     private final String[] arguments;
+    private final int offset;
+    private final int length;
+
+    // Values memoized for this execution or completion, created on first use.
+    private Map<Object, Object> resolved;
 
     public CommandArguments(
         CommandSender commandSender,
@@ -64,11 +97,40 @@ public class CommandArguments {
         String label,
         String... arguments
     ) {
+        this(commandSender, bukkitCommand, command, label, arguments, 0, arguments.length);
+    }
+
+    /**
+     * Creates command arguments that view the given range of the arguments array
+     * without copying it. The array must not be modified afterward.
+     *
+     * @param commandSender the sender of the command
+     * @param bukkitCommand the Bukkit command that was executed
+     * @param command the command annotation, or {@code null} for completers
+     * @param label the label that was used
+     * @param arguments the array that holds the arguments
+     * @param offset the index of the first argument in the array
+     * @param length the number of arguments
+     * @throws IndexOutOfBoundsException if the range is out of the bounds of the array
+     */
+    public CommandArguments(
+        CommandSender commandSender,
+        Command bukkitCommand,
+        dev.despical.commandframework.annotations.Command command,
+        String label,
+        String[] arguments,
+        int offset,
+        int length
+    ) {
+        Objects.checkFromIndexSize(offset, length, arguments.length);
+
         this.commandSender = commandSender;
         this.bukkitCommand = bukkitCommand;
         this.command = command;
         this.label = label;
         this.arguments = arguments;
+        this.offset = offset;
+        this.length = length;
     }
 
     /**
@@ -86,11 +148,17 @@ public class CommandArguments {
             arguments.bukkitCommand,
             arguments.command,
             arguments.label,
-            arguments.arguments
+            arguments.arguments,
+            arguments.offset,
+            arguments.length
         );
 
-        this.parsedFlags = arguments.parsedFlags;
+        this.optionSource = arguments.optionSource == arguments ? this : arguments.optionSource;
         this.parsedOptions = arguments.parsedOptions;
+        this.cachedMatch = arguments.cachedMatch;
+        this.tokens = arguments.tokens;
+        this.invocationPlan = arguments.invocationPlan;
+        this.resolved = arguments.resolved != null ? arguments.resolved : (arguments.resolved = new HashMap<>());
     }
 
     /**
@@ -143,14 +211,63 @@ public class CommandArguments {
     }
 
     /**
-     * Retrieves the array of arguments associated with this object.
+     * Retrieves a copy of the arguments associated with this object.
+     * Prefer {@link #getArgument(int)}, {@link #getArgumentList()} or
+     * {@link #subArguments(int, int)} which do not copy the arguments.
      *
      * @return arguments of the command.
      */
     @NotNull
     @Contract(pure = true)
     public String[] getArguments() {
-        return arguments;
+        return Arrays.copyOfRange(arguments, offset, offset + length);
+    }
+
+    /**
+     * Returns an unmodifiable list view of the arguments.
+     *
+     * @return arguments of the command as a list.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public List<String> getArgumentList() {
+        return Collections.unmodifiableList(Arrays.asList(arguments).subList(offset, offset + length));
+    }
+
+    /**
+     * Returns an unmodifiable list of the arguments that are neither options nor flags
+     * of the command, in their original order. The indexes of {@link #getArgument(int)}
+     * are not affected by the options and flags.
+     *
+     * @return the positional arguments of the command.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public List<String> getPositionalArguments() {
+        return this.parsedOptions().positionals();
+    }
+
+    /**
+     * Returns command arguments that contain the given range of these arguments,
+     * sharing the sender, command, label and parsed options. The arguments are not
+     * copied, and the result is always of type {@code CommandArguments}.
+     *
+     * @param from the starting index (inclusive) of the range.
+     * @param to   the ending index (exclusive) of the range.
+     * @return the arguments within the specified range.
+     * @throws IndexOutOfBoundsException if {@code from} is negative,
+     *                                   {@code to} is greater than the number of arguments,
+     *                                   or {@code from} is greater than {@code to}.
+     */
+    @NotNull
+    public CommandArguments subArguments(int from, int to) {
+        Objects.checkFromToIndex(from, to, length);
+
+        CommandArguments subArguments = new CommandArguments(commandSender, bukkitCommand, command, label, arguments, offset + from, to - from);
+        subArguments.optionSource = optionSource;
+        subArguments.invocationPlan = invocationPlan;
+        subArguments.resolved = resolved != null ? resolved : (resolved = new HashMap<>());
+        return subArguments;
     }
 
     // SOME GETTER METHODS FOR COMMON PRIMITIVE TYPES //
@@ -164,7 +281,7 @@ public class CommandArguments {
     @Nullable
     @Contract(pure = true)
     public String getArgument(int index) {
-        return arguments.length > index && index >= 0 ? arguments[index] : null;
+        return length > index && index >= 0 ? arguments[offset + index] : null;
     }
 
     /**
@@ -186,7 +303,7 @@ public class CommandArguments {
     @Nullable
     @Contract(pure = true)
     public String getLast() {
-        return this.getArgument(arguments.length - 1);
+        return this.getArgument(length - 1);
     }
 
     /**
@@ -200,7 +317,7 @@ public class CommandArguments {
     @NotNull
     @Contract(pure = true)
     public String getArgument(int index, String defaultValue) {
-        return arguments.length > index && index >= 0 ? arguments[index] : defaultValue;
+        return length > index && index >= 0 ? arguments[offset + index] : defaultValue;
     }
 
     /**
@@ -212,11 +329,13 @@ public class CommandArguments {
      */
     @Contract(pure = true)
     public int getArgumentAsInt(int index) {
-        return Utils.getInt(this.getArgument(index));
+        return ValueParser.parseInt(this.getArgument(index), 0);
     }
 
     /**
      * Returns the double value of the indexed element from the arguments array.
+     * The element is parsed with the syntax of {@link Double#parseDouble(String)},
+     * use {@link #findArgumentAsDouble(int)} to accept finite numbers only.
      *
      * @param index the index of desired argument.
      * @return Double if indexed element is primitive type of double
@@ -224,11 +343,12 @@ public class CommandArguments {
      */
     @Contract(pure = true)
     public double getArgumentAsDouble(int index) {
-        return Utils.getDouble(this.getArgument(index));
+        return ValueParser.parseLenientDouble(this.getArgument(index), 0d);
     }
 
     /**
      * Returns the float value of the indexed element from the arguments array.
+     * The element is parsed with the syntax of {@link Float#parseFloat(String)}.
      *
      * @param index the index of desired argument.
      * @return Float if indexed element is primitive type of float
@@ -236,7 +356,7 @@ public class CommandArguments {
      */
     @Contract(pure = true)
     public float getArgumentAsFloat(int index) {
-        return Utils.getFloat(this.getArgument(index));
+        return ValueParser.parseLenientFloat(this.getArgument(index), 0F);
     }
 
     /**
@@ -248,21 +368,91 @@ public class CommandArguments {
      */
     @Contract(pure = true)
     public long getArgumentAsLong(int index) {
-        return Utils.getLong(this.getArgument(index));
+        return ValueParser.parseLong(this.getArgument(index), 0L);
     }
 
     /**
      * Returns the boolean value of the indexed element from the arguments array.
+     * Only {@code true} is accepted, ignoring case, use {@link #findArgumentAsBoolean(int)}
+     * to accept {@code yes/no} and {@code on/off} as well.
      *
      * @param index the index of desired argument.
      * @return Boolean if indexed element is primitive type of boolean
-     * or 0 if element is null.
+     * or false if element is null.
      */
     @Contract(pure = true)
     public boolean getArgumentAsBoolean(int index) {
         return "true".equalsIgnoreCase(this.getArgument(index));
     }
 
+    /**
+     * Returns the integer value of the indexed element from the arguments array,
+     * or an empty optional if the element is missing or not an integer.
+     *
+     * @param index the index of desired argument.
+     * @return the parsed value, if any.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public OptionalInt findArgumentAsInt(int index) {
+        return ValueParser.parseInt(this.getArgument(index));
+    }
+
+    /**
+     * Returns the long value of the indexed element from the arguments array,
+     * or an empty optional if the element is missing or not a long.
+     *
+     * @param index the index of desired argument.
+     * @return the parsed value, if any.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public OptionalLong findArgumentAsLong(int index) {
+        return ValueParser.parseLong(this.getArgument(index));
+    }
+
+    /**
+     * Returns the double value of the indexed element from the arguments array,
+     * or an empty optional if the element is missing or not a finite decimal number.
+     *
+     * @param index the index of desired argument.
+     * @return the parsed value, if any.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public OptionalDouble findArgumentAsDouble(int index) {
+        return ValueParser.parseDouble(this.getArgument(index));
+    }
+
+    /**
+     * Returns the boolean value of the indexed element from the arguments array.
+     * {@code true/false}, {@code yes/no} and {@code on/off} are accepted, ignoring case.
+     *
+     * @param index the index of desired argument.
+     * @return the parsed value, or an empty optional if the element is missing or not a boolean.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Optional<Boolean> findArgumentAsBoolean(int index) {
+        return ValueParser.parseBoolean(this.getArgument(index));
+    }
+
+    /**
+     * Returns the duration of the indexed element from the arguments array, written
+     * as amounts followed by the units {@code w}, {@code d}, {@code h}, {@code m},
+     * {@code s} or {@code ms}, e.g. {@code 1h30m}. A single amount without a unit
+     * is read as seconds.
+     *
+     * @param index the index of desired argument.
+     * @return the parsed duration, or an empty optional if the element is missing or not a duration.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Optional<Duration> findArgumentAsDuration(int index) {
+        OptionalLong millis = ValueParser.parseDuration(this.getArgument(index));
+        return millis.isPresent() ? Optional.of(Duration.ofMillis(millis.getAsLong())) : Optional.empty();
+    }
+
     // ---------------------------------------------- //
 
     /**
@@ -272,7 +462,7 @@ public class CommandArguments {
      */
     @Contract(pure = true)
     public boolean isArgumentsEmpty() {
-        return arguments.length == 0;
+        return length == 0;
     }
 
     /**
@@ -360,7 +550,7 @@ public class CommandArguments {
      */
     @Contract(pure = true)
     public int getLength() {
-        return arguments.length;
+        return length;
     }
 
     /**
@@ -403,7 +593,7 @@ public class CommandArguments {
      */
     @Contract(pure = true)
     public String concatArguments() {
-        return String.join(" ", arguments);
+        return this.concatRangeOf(0, length);
     }
 
     /**
@@ -421,7 +611,85 @@ public class CommandArguments {
      */
     @Contract(pure = true)
     public String concatRangeOf(int from, int to) {
-        return String.join(" ", Arrays.copyOfRange(arguments, from, to));
+        if (from < 0 || to > length || from > to) {
+            throw new ArrayIndexOutOfBoundsException("Range [%d, %d) out of bounds for length %d".formatted(from, to, length));
+        }
+
+        if (from == to) {
+            return "";
+        }
+
+        if (to - from == 1) {
+            return arguments[offset + from];
+        }
+
+        StringBuilder builder = new StringBuilder(arguments[offset + from]);
+
+        for (int i = offset + from + 1; i < offset + to; i++) {
+            builder.append(' ').append(arguments[i]);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Returns the arguments split into tokens, where text in double or single quotes,
+     * such as {@code "hello there"}, is a single token without its quotes. Within quotes,
+     * a backslash escapes the quote character or another backslash.
+     * <p>
+     * The arguments are joined and tokenized once, on the first call, and the tokens are
+     * views over the joined line. Use {@link CharSequence#toString()} to copy a token,
+     * or {@link String#contentEquals(CharSequence)} to compare it.
+     *
+     * @return an unmodifiable list of the tokens.
+     * @since 1.6.5
+     */
+    @NotNull
+    @Contract(pure = true)
+    public List<CharSequence> getTokens() {
+        return this.tokens().asList();
+    }
+
+    /**
+     * Returns the token at the specified index.
+     *
+     * @param index the index of desired token.
+     * @return the token, or null if the index is out of range.
+     * @see #getTokens()
+     * @since 1.6.5
+     */
+    @Nullable
+    @Contract(pure = true)
+    public CharSequence getToken(int index) {
+        return this.tokens().get(index);
+    }
+
+    /**
+     * Returns the rest of the line as it was typed, starting from the token at the
+     * specified index, e.g. the message of {@code /mail send Bob hello there} from
+     * the token at index 2. Unlike {@link #concatRangeOf(int, int)}, the text is
+     * not copied.
+     *
+     * @param index the index of the first token.
+     * @return the rest of the line, or null if the index is out of range.
+     * @see #getTokens()
+     * @since 1.6.5
+     */
+    @Nullable
+    @Contract(pure = true)
+    public CharSequence getRemainingText(int index) {
+        return this.tokens().remaining(index);
+    }
+
+    private TokenizedArguments tokens() {
+        TokenizedArguments tokens = this.tokens;
+
+        // Immutable, so tokenizing twice from different threads is harmless.
+        if (tokens == null) {
+            this.tokens = tokens = TokenizedArguments.tokenize(arguments, offset, length);
+        }
+
+        return tokens;
     }
 
     /**
@@ -449,12 +717,18 @@ public class CommandArguments {
         if (string == null || string.isEmpty())
             return false;
 
-        return string.chars().allMatch(Character::isDigit);
+        for (int i = 0; i < string.length(); i++) {
+            if (!Character.isDigit(string.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     /**
      * Checks if the value obtained from the argument at the specified index can be successfully
-     * parsed into an integer using {@code Integer.parseInt}.
+     * parsed into an integer.
      *
      * @param index The index of the argument from which the value is retrieved.
      * @return {@code true} if the value at the specified argument index can be parsed into an integer,
@@ -467,7 +741,7 @@ public class CommandArguments {
     }
 
     /**
-     * Checks if the given string can be successfully parsed into an integer using {@code Integer.parseInt}.
+     * Checks if the given string can be successfully parsed into an integer.
      *
      * @param string The input string to be checked for its ability to be parsed into an integer.
      * @return {@code true} if the string can be parsed into an integer, {@code false} otherwise.
@@ -475,12 +749,7 @@ public class CommandArguments {
      */
     @Contract(pure = true)
     public boolean isInteger(String string) {
-        try {
-            Integer.parseInt(string);
-            return true;
-        } catch (Exception exception) {
-            return false;
-        }
+        return ValueParser.isInt(string);
     }
 
     /**
@@ -507,12 +776,7 @@ public class CommandArguments {
      */
     @Contract(pure = true)
     public boolean isFloatingDecimal(String string) {
-        try {
-            Double.parseDouble(string);
-            return true;
-        } catch (Exception exception) {
-            return false;
-        }
+        return ValueParser.isLenientDouble(string);
     }
 
     /**
@@ -538,17 +802,187 @@ public class CommandArguments {
      * @return {@code true} if the sender has a cooldown on this command
      */
     public boolean checkCooldown() {
-        return FrameworkContext.getInstance().getCooldownManager().hasCooldown(this);
+        CooldownManager cooldownManager = FrameworkContext.getInstance().getCooldownManager();
+
+        if (invocationPlan == null) {
+            return cooldownManager.hasCooldown(this);
+        }
+
+        return cooldownManager.hasCustomCooldown(this, command, invocationPlan.cooldown(SenderClass.of(commandSender)));
+    }
+
+    /**
+     * Returns the value of the parameter provider registered for the given type, the same
+     * provider a method parameter of this type would get. The value is resolved once per
+     * execution or completion and shared with the method parameters and other providers,
+     * so providers can depend on each other without repeating expensive lookups.
+     *
+     * <blockquote>For example,
+     * <pre>{@code
+     *     framework.addCustomParameter(Profile.class, arguments -> database.loadProfile(arguments.getSender()));
+     *     framework.addCustomParameter(Wallet.class, arguments -> arguments.getParameter(Profile.class).getWallet());
+     * }</pre>
+     * </blockquote>
+     *
+     * @param type the type of the parameter
+     * @param <T>  the type of the parameter
+     * @return the provided value, may be null
+     * @throws CommandException if there is no provider for the type, or the providers depend on each other in a cycle
+     * @see CommandFramework#addCustomParameter(Class, java.util.function.Function)
+     */
+    @Nullable
+    public <T> T getParameter(@NotNull Class<T> type) {
+        return this.getParameter(null, type);
+    }
+
+    /**
+     * Returns the value of the parameter provider registered for the given qualifier and type,
+     * resolved once per execution or completion.
+     *
+     * @param qualifier the {@link dev.despical.commandframework.annotations.Param @Param} value, or {@code null}
+     * @param type      the type of the parameter
+     * @param <T>       the type of the parameter
+     * @return the provided value, may be null
+     * @throws CommandException if there is no provider for the type, or the providers depend on each other in a cycle
+     * @see #getParameter(Class)
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T getParameter(@Nullable String qualifier, @NotNull Class<T> type) {
+        ParameterHandler parameterHandler = CommandFramework.getInstance().getParameterHandler();
+        Function<CommandArguments, ?> provider = findParameterProvider(parameterHandler, qualifier, type);
+
+        if (parameterHandler.isAsync(provider)) {
+            throw new CommandException("Parameter provider of type ''{0}'' is asynchronous, use CommandArguments#getAsyncParameter instead.", type.getSimpleName());
+        }
+
+        return (T) this.memoize(provider, provider);
+    }
+
+    /**
+     * Returns a stage of the value of the parameter provider registered for the given type,
+     * resolved once per execution or completion. Values of synchronous providers are
+     * returned as completed stages.
+     * <p>
+     * Asynchronous providers may use this to depend on each other. It should be called from
+     * the provider itself rather than from the callbacks of the returned stage.
+     *
+     * @param type the type of the parameter
+     * @param <T>  the type of the parameter
+     * @return the stage of the provided value
+     * @throws CommandException if there is no provider for the type, or the providers depend on each other in a cycle
+     * @see CommandFramework#addAsyncParameter(Class, Function)
+     * @since 1.6.5
+     */
+    @NotNull
+    public <T> CompletionStage<T> getAsyncParameter(@NotNull Class<T> type) {
+        return this.getAsyncParameter(null, type);
+    }
+
+    /**
+     * Returns a stage of the value of the parameter provider registered for the given
+     * qualifier and type, resolved once per execution or completion.
+     *
+     * @param qualifier the {@link dev.despical.commandframework.annotations.Param @Param} value, or {@code null}
+     * @param type      the type of the parameter
+     * @param <T>       the type of the parameter
+     * @return the stage of the provided value
+     * @throws CommandException if there is no provider for the type, or the providers depend on each other in a cycle
+     * @see #getAsyncParameter(Class)
+     * @since 1.6.5
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T> CompletionStage<T> getAsyncParameter(@Nullable String qualifier, @NotNull Class<T> type) {
+        ParameterHandler parameterHandler = CommandFramework.getInstance().getParameterHandler();
+        Function<CommandArguments, ?> provider = findParameterProvider(parameterHandler, qualifier, type);
+        Object value = this.memoize(provider, provider);
+
+        return parameterHandler.isAsync(provider) ? (CompletionStage<T>) value : CompletableFuture.completedFuture((T) value);
+    }
+
+    private static Function<CommandArguments, ?> findParameterProvider(ParameterHandler parameterHandler, String qualifier, Class<?> type) {
+        Function<CommandArguments, ?> provider = parameterHandler.findProvider(type, qualifier);
+
+        if (provider == null) {
+            throw new CommandException("No parameter provider found for type ''{0}''{1}.", type.getSimpleName(), qualifier == null ? "" : " with qualifier " + qualifier);
+        }
+
+        return provider;
+    }
+
+    /**
+     * Returns the value stored for the given key during this execution or completion,
+     * or computes it with the given loader and stores it, including {@code null} values.
+     *
+     * @param key    the key of the value, compared using {@link Object#equals(Object)}
+     * @param loader the function to compute the value with
+     * @param <T>    the type of the value
+     * @return the stored or computed value
+     * @throws CommandException if the loader requires its own value while it is computed
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T memoize(@NotNull Object key, @NotNull Function<? super CommandArguments, ? extends T> loader) {
+        if (resolved == null) {
+            resolved = new HashMap<>();
+        }
+
+        Object value = resolved.get(key);
+
+        if (value == RESOLVING) {
+            throw new CommandException("Circular dependency between parameter providers while executing ''{0}''.", label);
+        }
+
+        if (value != null) {
+            return value == NULL ? null : (T) value;
+        }
+
+        resolved.put(key, RESOLVING);
+
+        try {
+            T result = loader.apply(this);
+            resolved.put(key, result == null ? NULL : result);
+            return result;
+        } catch (RuntimeException | Error exception) {
+            resolved.remove(key);
+            throw exception;
+        }
     }
 
-    void setParsedOptions(Map<String, List<String>> parsedOptions) {
-        this.parsedOptions = parsedOptions;
+    void setInvocationPlan(InvocationPlan invocationPlan) {
+        this.invocationPlan = invocationPlan;
+        this.parsedOptions = null;
+        this.cachedMatch = null;
+    }
+
+    void setCachedMatch(CommandCache.Entry cachedMatch) {
+        this.cachedMatch = cachedMatch;
+    }
+
+    private OptionSchema.Result parsedOptions() {
+        if (optionSource != this) {
+            return optionSource.parsedOptions();
+        }
+
+        OptionSchema.Result result = this.parsedOptions;
+
+        // The result is immutable, so parsing it twice from different threads is harmless.
+        if (result == null && cachedMatch != null) {
+            this.parsedOptions = result = cachedMatch.options();
+        }
+
+        if (result == null) {
+            OptionSchema optionSchema = invocationPlan != null ? invocationPlan.optionSchema() : OptionSchema.EMPTY;
+            this.parsedOptions = result = optionSchema.parse(arguments, offset, length);
+        }
+
+        return result;
     }
 
     @Nullable
     @Contract(pure = true)
     public List<String> getOption(final @NotNull String option) {
-        return this.parsedOptions.get(option);
+        return this.parsedOptions().options().get(option);
     }
 
     @Contract(pure = true)
@@ -556,12 +990,131 @@ public class CommandArguments {
         return Optional.ofNullable(this.getOption(option));
     }
 
-    void setParsedFlags(Set<String> parsedFlags) {
-        this.parsedFlags = parsedFlags;
+    /**
+     * Returns the values of the given option converted to the given type.
+     * <p>
+     * If the option declares the type using {@link dev.despical.commandframework.annotations.Option#type()},
+     * the values are converted once per execution with the converter found at registration.
+     * Other types are converted using the registered value converters on first use.
+     *
+     * @param option the key of the option
+     * @param type   the type to convert the values to
+     * @param <T>    the type of the values
+     * @return the converted values, or null if the option is not present or any of its values is invalid
+     * @throws CommandException if the type is not supported
+     * @see CommandFramework#addValueConverter(Class, Function)
+     * @since 1.6.5
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getOption(final @NotNull String option, final @NotNull Class<T> type) {
+        OptionSchema.Result result = this.parsedOptions();
+        List<String> values = result.options().get(option);
+
+        if (values == null) {
+            return null;
+        }
+
+        Class<?> wrapped = Primitives.wrap(type);
+        OptionSchema.TypedValues typedValues = result.typedOptions().get(option);
+
+        if (typedValues != null && Primitives.wrap(typedValues.type()) == wrapped) {
+            return (List<T>) typedValues.values();
+        }
+
+        if (wrapped == String.class) {
+            return (List<T>) values;
+        }
+
+        return (List<T>) this.memoize(new OptionConversion(option, wrapped), arguments -> convertOption(values, wrapped));
+    }
+
+    /**
+     * Returns the values of the given option converted to the given type.
+     *
+     * @param option the key of the option
+     * @param type   the type to convert the values to
+     * @param <T>    the type of the values
+     * @return the converted values, or an empty optional if the option is not present or any of its values is invalid
+     * @throws CommandException if the type is not supported
+     * @see #getOption(String, Class)
+     * @since 1.6.5
+     */
+    @NotNull
+    public <T> Optional<List<T>> findOption(final @NotNull String option, final @NotNull Class<T> type) {
+        return Optional.ofNullable(this.getOption(option, type));
+    }
+
+    /**
+     * Returns the first value of the given option as an integer.
+     *
+     * @param option the key of the option
+     * @return the value, or 0 if the option is not present or not an integer
+     * @see #getOption(String, Class)
+     * @since 1.6.5
+     */
+    @Contract(pure = true)
+    public int getOptionAsInt(final @NotNull String option) {
+        Integer value = this.getFirstOption(option, Integer.class);
+        return value != null ? value : 0;
+    }
+
+    /**
+     * Returns the first value of the given option as a long.
+     *
+     * @param option the key of the option
+     * @return the value, or 0 if the option is not present or not a long
+     * @see #getOption(String, Class)
+     * @since 1.6.5
+     */
+    @Contract(pure = true)
+    public long getOptionAsLong(final @NotNull String option) {
+        Long value = this.getFirstOption(option, Long.class);
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * Returns the first value of the given option as a double.
+     *
+     * @param option the key of the option
+     * @return the value, or 0 if the option is not present or not a double
+     * @see #getOption(String, Class)
+     * @since 1.6.5
+     */
+    @Contract(pure = true)
+    public double getOptionAsDouble(final @NotNull String option) {
+        Double value = this.getFirstOption(option, Double.class);
+        return value != null ? value : 0D;
+    }
+
+    private <T> T getFirstOption(String option, Class<T> type) {
+        List<T> values = this.getOption(option, type);
+        return values == null || values.isEmpty() ? null : values.getFirst();
+    }
+
+    private static List<?> convertOption(List<String> values, Class<?> type) {
+        ConverterRegistry.Converter converter = CommandFramework.getInstance().getConverterRegistry().find(type);
+
+        if (converter == null) {
+            throw new CommandException("Type ''{0}'' is not supported for options. Register a converter using CommandFramework#addValueConverter.", type.getSimpleName());
+        }
+
+        Object[] converted = new Object[values.size()];
+
+        for (int i = 0; i < converted.length; i++) {
+            if ((converted[i] = converter.convert(values.get(i))) == ConverterRegistry.INVALID) {
+                return null;
+            }
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(converted));
     }
 
     @Contract(pure = true)
     public boolean isFlagPresent(final @NotNull String flag) {
-        return this.parsedFlags.contains(flag);
+        return this.parsedOptions().flags().contains(flag);
+    }
+
+    private record OptionConversion(String option, Class<?> type) {
     }
 }
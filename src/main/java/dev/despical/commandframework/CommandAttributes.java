@@ -19,11 +19,11 @@
 package dev.despical.commandframework;
 
 import dev.despical.commandframework.annotations.Command;
+import dev.despical.commandframework.internal.CommandMetadata;
 import dev.despical.commandframework.utils.CommandNameValidator;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
-import java.lang.annotation.Annotation;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -145,20 +145,7 @@ public final class CommandAttributes {
     @NotNull
     @Contract(pure = true)
     public Command toCommand() {
-        return new Command() {
-            public String name() { return name; }
-            public String fallbackPrefix() { return fallbackPrefix; }
-            public String permission() { return permission; }
-            public String[] aliases() { return aliases.clone(); }
-            public String desc() { return desc; }
-            public String usage() { return usage; }
-            public int min() { return min; }
-            public int max() { return max; }
-            public boolean onlyOp() { return onlyOp; }
-            public boolean async() { return async; }
-            public SenderType senderType() { return senderType; }
-            public Class<? extends Annotation> annotationType() { return Command.class; }
-        };
+        return new CommandMetadata(name, fallbackPrefix, permission, aliases, desc, usage, min, max, onlyOp, async, senderType);
     }
 
     /**
@@ -0,0 +1,68 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework;
+
+import dev.despical.commandframework.internal.MemberInvoker;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Calls the command and completer methods of a class directly.
+ * <p>
+ * Implementations are generated by the {@code command-framework-processor}
+ * annotation processor, named after the binary name of the command class with
+ * a {@value #CLASS_SUFFIX} suffix. If a class has a dispatcher, the framework
+ * uses it instead of linking the methods reflectively.
+ *
+ * @author Despical
+ * @since 1.6.5
+ * <p>
+ * Created at 16.10.2026
+ */
+@ApiStatus.Internal
+public interface CommandDispatcher {
+
+    String CLASS_SUFFIX = "_CommandDispatcher";
+
+    /**
+     * Returns an invoker that calls the given method on the instance.
+     * <p>
+     * Methods are identified by their name followed by the canonical names of
+     * their erased parameter types, e.g. {@code "example(dev.despical.commandframework.CommandArguments)"}.
+     *
+     * @param instance the instance to call the method on, ignored for static methods
+     * @param signature the signature of the method
+     * @return the invoker, or {@code null} if this dispatcher can not call the method
+     */
+    @Nullable
+    Invoker bind(@Nullable Object instance, @NotNull String signature);
+
+    /**
+     * Every method gets its own invoker class, which is used as the invoker of the
+     * registered member as is, so the call site of each member sees a single target.
+     */
+    @FunctionalInterface
+    interface Invoker extends MemberInvoker {
+
+        @Override
+        @Nullable
+        Object invoke(@NotNull Object[] parameters) throws Throwable;
+    }
+}
@@ -43,6 +43,9 @@ public enum CommandErrorMessage {
     NO_PERMISSION("<red>You don't have enough permission to execute this command!"),
     MUST_HAVE_OP("<red>You must have OP to execute this command!"),
     WAIT_BEFORE_USING_AGAIN("<red>You have to wait before using this command again!"),
+    PARAMETER_TIMEOUT("<red>This command took too long to load, please try again later!"),
+    PARAMETER_FAILURE("<red>An error occurred while loading this command, please try again later!"),
+    COMMAND_UNAVAILABLE("<red>This command is not available right now, please try again later!"),
     UNKNOWN_SUBCOMMAND((command, arguments) -> {
         List<String> visibleSubcommands = MessageHelper.getDirectSubcommands(command).stream()
             .filter(subcommand -> !subcommand.usage().isEmpty())
@@ -22,6 +22,7 @@ import dev.despical.commandframework.annotations.Command;
 import dev.despical.commandframework.annotations.Param;
 import dev.despical.commandframework.exceptions.CommandException;
 import dev.despical.commandframework.debug.DebugLogger;
+import dev.despical.commandframework.internal.FrameworkContext;
 import dev.despical.commandframework.options.FrameworkOption;
 import dev.despical.commandframework.options.OptionManager;
 import org.bukkit.command.CommandMap;
@@ -32,6 +33,8 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Logger;
@@ -112,6 +115,17 @@ public class CommandFramework extends CommandHandler {
      * Note: Scanned classes must have a public no-args constructor.
      * Interfaces and abstract classes are automatically skipped.
      * </p>
+     * <p>
+     * If the command index generated by the {@code command-framework-processor}
+     * annotation processor is present, the indexed classes are loaded directly
+     * instead of scanning the class path.
+     * </p>
+     * <p>
+     * Classes that can not be loaded or instantiated are skipped and logged
+     * individually. Enable {@link FrameworkOption#PARALLEL_SCANNING} to
+     * introspect the classes in parallel, and {@link FrameworkOption#LAZY_INSTANTIATION}
+     * to create the instances only when their commands are first used.
+     * </p>
      *
      * @param packageName The full path of the package to scan (e.g., "com.example.project.commands")
      * @see #registerCommands(Object)
@@ -120,6 +134,31 @@ public class CommandFramework extends CommandHandler {
         this.registry.registerAllInPackage(packageName);
     }
 
+    /**
+     * Applies all registrations, attribute updates and unregistrations made
+     * by the given action at once. The command tree is verified and synchronized
+     * with Bukkit's command map a single time at the end, and the players'
+     * command lists are resent only once.
+     * <pre>
+     * framework.batch(() -&gt; {
+     *     framework.registerCommands(new AdminCommands());
+     *     framework.registerCommands(new PlayerCommands());
+     *     framework.unregisterCommand("legacy");
+     * });
+     * </pre>
+     * Batches can be nested, changes are applied when the outermost batch ends.
+     * If the action throws an exception, the changes it made are discarded and
+     * the exception is rethrown.
+     * <p>
+     * The registry is locked while the action runs, so it must not wait for other
+     * threads that register, unregister or update commands.
+     *
+     * @param changes the action that changes the registered commands
+     */
+    public final void batch(@NotNull Runnable changes) {
+        this.registry.batch(changes);
+    }
+
     /**
      * Unregisters a command and its associated tab completer if they are registered with the specified name.
      *
@@ -132,9 +171,15 @@ public class CommandFramework extends CommandHandler {
 
     /**
      * Unregisters all commands and tab completers that were registered using the instance of this object.
+     * <p>
+     * If {@link FrameworkOption#VIRTUAL_THREADS} is enabled, this also shuts down the executor
+     * of asynchronous commands. It only waits for the running ones to complete if a timeout is
+     * set using {@link OptionManager#setAsyncShutdownTimeout(long, java.util.concurrent.TimeUnit)}.
      */
 	public final void unregisterCommands() {
         this.registry.unregisterCommands();
+
+        FrameworkContext.getInstance().shutdownAsyncExecutor(this.optionManager.getAsyncShutdownTimeout());
 	}
 
     /**
@@ -181,7 +226,11 @@ public class CommandFramework extends CommandHandler {
 	 * @param function a function that takes {@link CommandArguments} and returns an instance of {@link B},
 	 *                 must not be null
 	 *
-	 * @throws NullPointerException if {@code value} is already added as a custom parameter
+	 * <p>Providers are bound to the command parameters at registration, so a provider only applies
+	 * to the commands registered after it is added. Add the providers before registering the
+	 * commands that use them.
+	 *
+	 * @throws CommandException if {@code value} is already added as a custom parameter
 	 */
 	public final <A, B extends A> void addCustomParameter(@NotNull String value, @NotNull Function<CommandArguments, B> function) {
 		this.parameterHandler.addCustomParameter(value, function);
@@ -193,20 +242,123 @@ public class CommandFramework extends CommandHandler {
      * <p>This method allows the addition of a custom parameter to the parameter handler by specifying
      * a class and a function that converts {@link CommandArguments} to an instance of {@link T}.
      * <p>
-     * The parameter will be registered using the {@link Class#getSimpleName()} as the key.
+     * The parameter is provided to every parameter of exactly this type, or of its primitive
+     * counterpart, that is not annotated with {@linkplain Param @Param}. Classes with the same
+     * simple name in different packages do not conflict. Parameters annotated with
+     * {@code @Param} using the simple name of the class also receive it, unless several
+     * registered classes share that simple name.
+     * Like all providers, it only applies to the commands registered after it is added.
      *
      * @param <T>      the type of the custom parameter
-     * @param clazz    the class of the custom parameter, used to derive the key using {@link Class#getSimpleName()},
-     * must not be null
+     * @param clazz    the class of the custom parameter, must not be null
      * @param function a function that takes {@link CommandArguments} and returns an instance of {@link T},
      * must not be null
      *
-     * @throws CommandException if a custom parameter with the same class name is already registered
+     * @throws CommandException if a custom parameter with the same class is already registered
      */
     public final <T> void addCustomParameter(@NotNull Class<T> clazz, @NotNull Function<CommandArguments, T> function) {
         this.parameterHandler.addCustomParameter(clazz, function);
     }
 
+    /**
+     * Adds a custom parameter to the parameter handler using a qualifier and a class type.
+     * <p>
+     * The parameter is provided to the parameters of exactly this type, or of its primitive
+     * counterpart, that are annotated with {@linkplain Param @Param} using the given qualifier.
+     * The same qualifier can be used for different types.
+     *
+     * @param <T>       the type of the custom parameter
+     * @param qualifier the value of the {@linkplain Param @Param} annotation, must not be null
+     * @param clazz     the class of the custom parameter, must not be null
+     * @param function  a function that takes {@link CommandArguments} and returns an instance of {@link T},
+     * must not be null
+     *
+     * @throws CommandException if a custom parameter with the same qualifier and class is already registered
+     * @since 1.6.5
+     */
+    public final <T> void addCustomParameter(
+        @NotNull String qualifier,
+        @NotNull Class<T> clazz,
+        @NotNull Function<CommandArguments, T> function
+    ) {
+        this.parameterHandler.addCustomParameter(qualifier, clazz, function);
+    }
+
+    /**
+     * Adds a parameter provider that loads the value asynchronously, for example from a database.
+     * <p>
+     * When a command has asynchronous parameters, the stages of all of them are requested
+     * first so the values are loaded concurrently. The command is invoked with the loaded
+     * values on the main thread, or on an asynchronous thread if the command is
+     * {@linkplain dev.despical.commandframework.annotations.Command#async() async}. If the
+     * values are not loaded within {@link OptionManager#setAsyncParameterTimeout(long, java.util.concurrent.TimeUnit)},
+     * the command is not invoked, {@link CommandErrorMessage#PARAMETER_TIMEOUT} is sent and
+     * the stages that are still loading are cancelled.
+     * <p>
+     * The function is called on the thread that executes the command, which is the main thread
+     * unless the command is async, so it should return the stage without blocking, for example
+     * using {@link java.util.concurrent.CompletableFuture#supplyAsync}.
+     * Completers only receive the values that are already loaded when they are called.
+     *
+     * @param <T>      the type of the custom parameter
+     * @param clazz    the class of the custom parameter, must not be null
+     * @param function a function that takes {@link CommandArguments} and returns a stage of {@link T},
+     * must not be null
+     *
+     * @throws CommandException if a custom parameter with the same class is already registered
+     * @see CommandArguments#getAsyncParameter(Class)
+     * @since 1.6.5
+     */
+    public final <T> void addAsyncParameter(
+        @NotNull Class<T> clazz,
+        @NotNull Function<CommandArguments, ? extends CompletionStage<T>> function
+    ) {
+        this.parameterHandler.addAsyncParameter(null, clazz, function);
+    }
+
+    /**
+     * Adds a parameter provider that loads the value asynchronously for the parameters of
+     * the given type that are annotated with {@linkplain Param @Param} using the given qualifier.
+     *
+     * @param <T>       the type of the custom parameter
+     * @param qualifier the value of the {@linkplain Param @Param} annotation, must not be null
+     * @param clazz     the class of the custom parameter, must not be null
+     * @param function  a function that takes {@link CommandArguments} and returns a stage of {@link T},
+     * must not be null
+     *
+     * @throws CommandException if a custom parameter with the same qualifier and class is already registered
+     * @see #addAsyncParameter(Class, Function)
+     * @since 1.6.5
+     */
+    public final <T> void addAsyncParameter(
+        @NotNull String qualifier,
+        @NotNull Class<T> clazz,
+        @NotNull Function<CommandArguments, ? extends CompletionStage<T>> function
+    ) {
+        this.parameterHandler.addAsyncParameter(qualifier, clazz, function);
+    }
+
+    /**
+     * Adds a converter that turns {@linkplain dev.despical.commandframework.annotations.Default @Default}
+     * and {@linkplain dev.despical.commandframework.annotations.Option @Option} values into the given type.
+     * <p>
+     * Strings, enums, durations and every type with a public static {@code valueOf(String)} method,
+     * such as the primitive wrappers, are supported without a converter. Their default values are parsed
+     * once at registration. Values of types with a registered converter are converted whenever
+     * the default value is used, so the converter may return a new instance every time.
+     *
+     * @param <T>       the type to convert to
+     * @param type      the type to convert to, must not be null
+     * @param converter a function that converts the value or throws {@link IllegalArgumentException},
+     * must not be null
+     *
+     * @throws CommandException if a converter for the same type is already registered
+     * @since 1.6.5
+     */
+    public final <T> void addValueConverter(@NotNull Class<T> type, @NotNull Function<String, T> converter) {
+        this.converterRegistry.register(type, converter);
+    }
+
     /**
      * Sets the default command arguments class that will be created for each command execution and completion.
      * <p>
@@ -301,6 +453,57 @@ public class CommandFramework extends CommandHandler {
 		return List.copyOf(commands);
 	}
 
+    /**
+     * Returns an executor that runs tasks on the server thread. Tasks submitted
+     * within the same tick are executed together by a single scheduled task,
+     * so it can be used freely to continue async work on the main thread.
+     *
+     * <pre>
+     * fetchStats(player).thenAcceptAsync(stats -&gt; player.sendMessage(stats), framework.getMainThreadExecutor());
+     * </pre>
+     *
+     * @return the main thread executor.
+     */
+    @NotNull
+    public final Executor getMainThreadExecutor() {
+        return FrameworkContext.getInstance().getMainThreadExecutor();
+    }
+
+    /**
+     * Returns the number of executions that used a cached match of
+     * {@link FrameworkOption#COMMAND_CACHE}.
+     *
+     * @return the number of cache hits.
+     * @since 1.6.5
+     */
+    public final long getCommandCacheHits() {
+        return registry.getCommandCache().hits();
+    }
+
+    /**
+     * Returns the number of executions that had to match the command while
+     * {@link FrameworkOption#COMMAND_CACHE} is enabled.
+     *
+     * @return the number of cache misses.
+     * @since 1.6.5
+     */
+    public final long getCommandCacheMisses() {
+        return registry.getCommandCache().misses();
+    }
+
+    /**
+     * Returns the number of commands executed by senders of the given class since
+     * the framework was initialized. Executions rejected by a check, such as a
+     * missing permission or a cooldown, are not counted.
+     *
+     * @param senderClass the class of the senders.
+     * @return the number of executions.
+     * @since 1.6.5
+     */
+    public final long getExecutionCount(@NotNull SenderClass senderClass) {
+        return executions[senderClass.ordinal()].sum();
+    }
+
     @NotNull
     @Contract(pure = true)
     public final Plugin getPlugin() {
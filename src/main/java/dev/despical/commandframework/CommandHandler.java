@@ -19,28 +19,37 @@
 package dev.despical.commandframework;
 
 import dev.despical.commandframework.annotations.Command;
-import dev.despical.commandframework.annotations.Completer;
-import dev.despical.commandframework.annotations.Flag;
-import dev.despical.commandframework.annotations.Option;
 import dev.despical.commandframework.exceptions.CooldownException;
+import dev.despical.commandframework.internal.CommandCache;
 import dev.despical.commandframework.internal.CommandRegistry;
+import dev.despical.commandframework.internal.ConfirmationMetadata;
+import dev.despical.commandframework.internal.ConverterRegistry;
+import dev.despical.commandframework.internal.CooldownMetadata;
 import dev.despical.commandframework.internal.FrameworkContext;
+import dev.despical.commandframework.internal.InvocationPlan;
 import dev.despical.commandframework.internal.ParameterHandler;
+import dev.despical.commandframework.internal.RegisteredMember;
 import dev.despical.commandframework.options.FrameworkOption;
-import dev.despical.commandframework.parser.OptionParser;
+import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
-import org.bukkit.entity.Player;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.logging.Level;
 
@@ -60,102 +69,130 @@ import java.util.logging.Level;
 abstract class CommandHandler implements CommandExecutor, TabCompleter {
 
     protected final CommandRegistry registry;
+    protected final ConverterRegistry converterRegistry;
     protected final ParameterHandler parameterHandler;
+    protected final LongAdder[] executions;
     private Function<CommandArguments, ? extends CommandArguments> argumentsFactory = Function.identity();
 
     public CommandHandler() {
         this.registry = FrameworkContext.getInstance().getRegistry();
-        this.parameterHandler = new ParameterHandler();
+        this.converterRegistry = new ConverterRegistry();
+        this.parameterHandler = new ParameterHandler(converterRegistry);
+        this.executions = new LongAdder[SenderClass.values().length];
+
+        for (int i = 0; i < executions.length; i++) {
+            executions[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * @return the parameter handler used to resolve the parameters of the members
+     */
+    @ApiStatus.Internal
+    @NotNull
+    public ParameterHandler getParameterHandler() {
+        return parameterHandler;
+    }
+
+    /**
+     * @return the converters used for default values
+     */
+    @ApiStatus.Internal
+    @NotNull
+    public ConverterRegistry getConverterRegistry() {
+        return converterRegistry;
     }
 
     @Override
     public boolean onCommand(@NotNull CommandSender sender, @NotNull org.bukkit.command.Command cmd, @NotNull String label, String[] args) {
-        var member = registry.getCommandMatcher().getMatch(cmd.getName(), args);
+        CommandFramework commandFramework = CommandFramework.getInstance();
+        RegisteredMember<Command> member;
+        CommandCache.Entry cachedMatch = null;
+
+        if (commandFramework.options().isEnabled(FrameworkOption.COMMAND_CACHE)) {
+            cachedMatch = registry.getCommandMatcher().getCachedMatch(cmd.getName(), args);
+            member = cachedMatch != null ? cachedMatch.member() : null;
+        } else {
+            member = registry.getCommandMatcher().getMatch(cmd.getName(), args);
+        }
 
         if (member == null) {
             return false;
         }
 
         Command command = member.annotation();
-        String[] nameParts = command.name().split("\\.");
-        String[] newArgs = Arrays.copyOfRange(args, nameParts.length - 1, args.length);
-        CommandArguments arguments = createArguments(sender, cmd, command, label, newArgs);
+        InvocationPlan plan = member.plan();
+        int argumentCount = args.length - plan.argumentOffset();
+        CommandArguments arguments = createArguments(sender, cmd, command, label, args, plan.argumentOffset());
 
         if (member.method() == null) {
             return arguments.sendMessage(CommandErrorMessage.UNKNOWN_SUBCOMMAND);
         }
 
-        String permission = command.permission();
-
-        if (command.onlyOp() && !sender.isOp()) {
-            arguments.sendMessage(CommandErrorMessage.MUST_HAVE_OP);
-            return true;
-        }
-
-        if (!permission.isEmpty() && !sender.hasPermission(permission)) {
-            arguments.sendMessage(CommandErrorMessage.NO_PERMISSION);
-            return true;
-        }
-
-        if (command.senderType() == Command.SenderType.PLAYER && !(sender instanceof Player)) {
-            arguments.sendMessage(CommandErrorMessage.ONLY_BY_PLAYERS);
-            return true;
-        }
+        arguments.setInvocationPlan(plan);
+        arguments.setCachedMatch(cachedMatch);
 
-        if (command.senderType() == Command.SenderType.CONSOLE && sender instanceof Player) {
-            arguments.sendMessage(CommandErrorMessage.ONLY_BY_CONSOLE);
-            return true;
-        }
+        SenderClass senderClass = SenderClass.of(sender);
 
-        if (newArgs.length < command.min()) {
-            return arguments.sendMessage(CommandErrorMessage.SHORT_ARG_SIZE);
-        }
+        for (InvocationPlan.Precondition precondition : plan.preconditions(senderClass)) {
+            if (precondition.passes(sender, argumentCount)) {
+                continue;
+            }
 
-        if (command.max() != -1 && newArgs.length > command.max()) {
-            return arguments.sendMessage(CommandErrorMessage.LONG_ARG_SIZE);
+            boolean result = arguments.sendMessage(precondition.error());
+            return !precondition.forwardResult() || result;
         }
 
-        CommandFramework commandFramework = CommandFramework.getInstance();
         FrameworkContext context = FrameworkContext.getInstance();
+        ConfirmationMetadata confirmation = plan.confirmation(senderClass);
+        CooldownMetadata cooldown = plan.cooldown(senderClass);
 
-        Method method = member.method();
-
-        if (context.checkConfirmation(sender, command, method)) {
+        if (confirmation != null && context.checkConfirmation(sender, command, confirmation)) {
             return true;
         }
 
-        if (!commandFramework.options().isEnabled(FrameworkOption.CUSTOM_COOLDOWN_CHECKER) &&
-            context.getCooldownManager().hasCooldown(arguments, command, method)
+        if (cooldown != null && !commandFramework.options().isEnabled(FrameworkOption.CUSTOM_COOLDOWN_CHECKER) &&
+            context.getCooldownManager().hasCooldown(arguments, command, cooldown)
         ) {
             return true;
         }
 
-        boolean parseOptions = method.getAnnotationsByType(Option.class).length > 0 ||
-            method.getAnnotationsByType(Flag.class).length > 0;
-
-        if (parseOptions) {
-            OptionParser optionParser = new OptionParser(newArgs, method);
-            arguments.setParsedOptions(optionParser.parseOptions());
-            arguments.setParsedFlags(optionParser.parseFlags());
-        }
+        executions[senderClass.ordinal()].increment();
 
+        Executor asyncExecutor = command.async() || plan.hasAsyncParameters() ? getAsyncExecutor(commandFramework, context) : null;
         Runnable invocation = () -> {
             try {
-                Object[] params = parameterHandler.getParameterArray(method, arguments);
-                params = combine(member.instance(), params);
+                Object[] params = parameterHandler.getParameterArray(member, arguments);
 
-                member.handle().invokeWithArguments(params);
-            } catch (Throwable throwable) {
-                if (throwable instanceof CooldownException || throwable.getCause() instanceof CooldownException) {
+                if (plan.hasAsyncParameters()) {
+                    Executor executor = command.async() ? asyncExecutor : context.getMainThreadExecutor();
+
+                    parameterHandler.completeParameters(member, params)
+                        .orTimeout(commandFramework.options().getAsyncParameterTimeout(), TimeUnit.MILLISECONDS)
+                        .whenCompleteAsync((resolved, throwable) -> {
+                            if (throwable != null) {
+                                handleParameterFailure(unwrapCompletionException(throwable), arguments, cmd.getLabel(), args, sender.getName());
+                                return;
+                            }
+
+                            invoke(member, resolved, arguments, cmd.getLabel(), args, sender.getName());
+                        }, executor);
                     return;
                 }
 
+                invoke(member, params, arguments, cmd.getLabel(), args, sender.getName());
+            } catch (Throwable throwable) {
                 logErrorMessage(throwable, cmd.getLabel(), args, sender.getName());
             }
         };
 
         if (command.async()) {
-            Bukkit.getScheduler().runTaskAsynchronously(commandFramework.getPlugin(), invocation);
+            try {
+                asyncExecutor.execute(invocation);
+            } catch (RejectedExecutionException exception) {
+                // The executor was shut down by a concurrent unregisterCommands.
+                return arguments.sendMessage(CommandErrorMessage.COMMAND_UNAVAILABLE);
+            }
         } else {
             invocation.run();
         }
@@ -163,12 +200,42 @@ abstract class CommandHandler implements CommandExecutor, TabCompleter {
         return true;
     }
 
-    private Object[] combine(Object instance, Object[] params) {
-        Object[] combined = new Object[params.length + 1];
-        combined[0] = instance;
+    private void invoke(RegisteredMember<Command> member, Object[] params, CommandArguments arguments, String label, String[] args, String senderName) {
+        try {
+            Object result = member.invoker().invoke(params);
+
+            if (result instanceof CompletionStage<?> stage) {
+                completeOnMainThread(stage, arguments, label, args, senderName);
+            }
+        } catch (Throwable throwable) {
+            if (throwable instanceof CooldownException || throwable.getCause() instanceof CooldownException) {
+                return;
+            }
 
-        System.arraycopy(params, 0, combined, 1, params.length);
-        return combined;
+            logErrorMessage(throwable, label, args, senderName);
+        }
+    }
+
+    private void handleParameterFailure(Throwable throwable, CommandArguments arguments, String label, String[] args, String senderName) {
+        if (throwable instanceof TimeoutException) {
+            CommandFramework.getInstance().getLogger().warning(
+                "Parameters of command /%s %s (sender=%s) were not loaded in time.".formatted(label, String.join(" ", args), senderName)
+            );
+
+            arguments.sendMessage(CommandErrorMessage.PARAMETER_TIMEOUT);
+            return;
+        }
+
+        logErrorMessage(throwable, label, args, senderName);
+        arguments.sendMessage(CommandErrorMessage.PARAMETER_FAILURE);
+    }
+
+    private static Executor getAsyncExecutor(CommandFramework commandFramework, FrameworkContext context) {
+        if (commandFramework.options().isEnabled(FrameworkOption.VIRTUAL_THREADS)) {
+            return context.getAsyncExecutor();
+        }
+
+        return task -> Bukkit.getScheduler().runTaskAsynchronously(commandFramework.getPlugin(), task);
     }
 
     @Override
@@ -179,26 +246,38 @@ abstract class CommandHandler implements CommandExecutor, TabCompleter {
             return null;
         }
 
-        Completer completer = member.annotation();
-        String permission = completer.permission();
+        InvocationPlan plan = member.plan();
 
-        if (!permission.isEmpty() && !sender.hasPermission(permission)) {
-            return null;
+        for (InvocationPlan.Precondition precondition : plan.preconditions(SenderClass.of(sender))) {
+            if (!precondition.passes(sender, args.length)) {
+                return null;
+            }
         }
 
         try {
-            String[] nameParts = completer.name().split("\\.");
-            String[] newArgs = Arrays.copyOfRange(args, nameParts.length - 1, args.length);
+            CommandArguments arguments = createArguments(sender, cmd, null, label, args, plan.argumentOffset());
+            Object[] params = parameterHandler.getParameterArray(member, arguments);
 
-            CommandArguments arguments = createArguments(sender, cmd, null, label, newArgs);
-            Object[] params = parameterHandler.getParameterArray(member.method(), arguments);
-            params = combine(member.instance(), params);
+            if (plan.hasAsyncParameters()) {
+                CompletableFuture<Object[]> resolved = parameterHandler.completeParameters(member, params);
+
+                // Same as the completions themselves, only the values that are already loaded can be used.
+                if (!resolved.isDone()) {
+                    return List.of();
+                }
 
-            Object result = member.handle().invokeWithArguments(params);
+                params = resolved.join();
+            }
+
+            Object result = member.invoker().invoke(params);
+
+            if (result instanceof CompletionStage<?> stage) {
+                return getCompletedSuggestions(stage, cmd.getLabel(), args, sender.getName());
+            }
 
             return (List<String>) result;
         } catch (Throwable throwable) {
-            logErrorMessage(throwable, cmd.getLabel(), args, sender.getName());
+            logErrorMessage(unwrapCompletionException(throwable), cmd.getLabel(), args, sender.getName());
         }
 
         return null;
@@ -219,9 +298,10 @@ abstract class CommandHandler implements CommandExecutor, TabCompleter {
         org.bukkit.command.Command command,
         Command commandAnnotation,
         String label,
-        String[] arguments
+        String[] arguments,
+        int offset
     ) {
-        CommandArguments commandArguments = new CommandArguments(sender, command, commandAnnotation, label, arguments);
+        CommandArguments commandArguments = new CommandArguments(sender, command, commandAnnotation, label, arguments, offset, arguments.length - offset);
         CommandArguments result = argumentsFactory.apply(commandArguments);
 
         if (result == null) {
@@ -280,6 +360,47 @@ abstract class CommandHandler implements CommandExecutor, TabCompleter {
         }
     }
 
+    private void completeOnMainThread(CompletionStage<?> stage, CommandArguments arguments, String label, String[] args, String senderName) {
+        stage.whenCompleteAsync((result, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = unwrapCompletionException(throwable);
+
+                if (!(cause instanceof CooldownException)) {
+                    logErrorMessage(cause, label, args, senderName);
+                }
+
+                return;
+            }
+
+            if (result instanceof String message) {
+                arguments.sendMessage(message);
+            } else if (result instanceof Component component) {
+                arguments.sendMessage(component);
+            }
+        }, FrameworkContext.getInstance().getMainThreadExecutor());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> getCompletedSuggestions(CompletionStage<?> stage, String label, String[] args, String senderName) {
+        CompletableFuture<?> future = stage.toCompletableFuture();
+
+        // Bukkit asks for completions synchronously, so we can't wait for the result.
+        if (!future.isDone()) {
+            return List.of();
+        }
+
+        try {
+            return (List<String>) future.join();
+        } catch (CompletionException | CancellationException exception) {
+            logErrorMessage(unwrapCompletionException(exception), label, args, senderName);
+            return null;
+        }
+    }
+
+    private static Throwable unwrapCompletionException(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
     private void logErrorMessage(Throwable throwable, String label, String[] args, String senderName) {
         CommandFramework.getInstance().getLogger().log(
             Level.SEVERE,
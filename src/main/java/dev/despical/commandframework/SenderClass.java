@@ -0,0 +1,85 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework;
+
+import org.bukkit.command.BlockCommandSender;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.command.ProxiedCommandSender;
+import org.bukkit.command.RemoteConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The kinds of command senders the framework dispatches commands for.
+ * <p>
+ * The class of a sender is determined once per execution and selects the checks
+ * that have to run for it, e.g. a command that can only be executed by players
+ * is rejected for the console without any checks and command blocks never go
+ * through cooldowns or confirmations.
+ *
+ * @author Despical
+ * @since 1.6.5
+ * <p>
+ * Created at 17.10.2026
+ *
+ * @see CommandFramework#getExecutionCount(SenderClass)
+ */
+public enum SenderClass {
+
+    PLAYER,
+    CONSOLE,
+    REMOTE_CONSOLE,
+    COMMAND_BLOCK,
+
+    /**
+     * Senders that execute a command on behalf of another one, e.g. {@code /execute as}.
+     */
+    PROXIED,
+
+    /**
+     * Any other sender, such as minecarts with command blocks or senders of other plugins.
+     */
+    OTHER;
+
+    @NotNull
+    public static SenderClass of(@NotNull CommandSender sender) {
+        if (sender instanceof Player) {
+            return PLAYER;
+        }
+
+        if (sender instanceof ConsoleCommandSender) {
+            return CONSOLE;
+        }
+
+        if (sender instanceof BlockCommandSender) {
+            return COMMAND_BLOCK;
+        }
+
+        if (sender instanceof RemoteConsoleCommandSender) {
+            return REMOTE_CONSOLE;
+        }
+
+        if (sender instanceof ProxiedCommandSender) {
+            return PROXIED;
+        }
+
+        return OTHER;
+    }
+}
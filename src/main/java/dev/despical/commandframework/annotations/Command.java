@@ -29,6 +29,10 @@ import java.lang.annotation.Target;
 
 /**
  * Main class of the framework to create commands in easy way.
+ * <p>
+ * Command methods may return a {@link java.util.concurrent.CompletionStage CompletionStage},
+ * its completion is handled on the main thread. Errors are logged and a
+ * {@code String} or {@code Component} result is sent to the command sender.
  *
  * @author Despical
  * @since 1.0.0
@@ -119,6 +123,10 @@ public @interface Command {
 	 * but involves HIGH RISKS because the Bukkit API, except the
 	 * scheduler package, is not thread safe nor guaranteed to be
 	 * thread safe.
+	 * <p>
+	 * By default, the command runs on the Bukkit scheduler's async
+	 * pool, or on a virtual thread if {@code VIRTUAL_THREADS} option
+	 * of the framework is enabled.
 	 *
 	 * @return asynchronous execution of command.
 	 */
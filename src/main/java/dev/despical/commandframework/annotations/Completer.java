@@ -30,6 +30,10 @@ import java.lang.annotation.Target;
 /**
  * A utility class in framework to create argument completions
  * for commands.
+ * <p>
+ * Completer methods return either a {@code List<String>} or a
+ * {@code CompletionStage<List<String>>}. Since Bukkit requests completions
+ * synchronously, a stage that is not completed yet yields no suggestions.
  *
  * @author Despical
  * @since 1.0.0
@@ -85,6 +85,17 @@ public @interface Option {
 	 */
 	boolean allowSeparating() default true;
 
+	/**
+	 * Specifies the type the values are converted to, which can be read using
+	 * {@code CommandArguments#getOption(String, Class)}. Strings, enums, durations,
+	 * every type with a public static {@code valueOf(String)} method and the types
+	 * with a registered value converter are supported. Default is {@link String}.
+	 *
+	 * @return the type of the option values
+	 * @since 1.6.5
+	 */
+	Class<?> type() default String.class;
+
 	/**
 	 * Container annotation for holding multiple {@link Option} annotations
 	 * on the same method.
@@ -28,8 +28,6 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.command.ConsoleCommandSender;
 import org.jetbrains.annotations.ApiStatus;
 
-import java.lang.reflect.Method;
-
 /**
  * This class handles the confirmations for commands and subcommands.
  *
@@ -53,12 +51,8 @@ public final class ConfirmationManager {
 		this.confirmations = new SelfExpiringHashMap<>();
 	}
 
-	public boolean checkConfirmations(final CommandSender sender, final Command command, final Method method) {
-		if (method == null) return false;
-		if (!method.isAnnotationPresent(Confirmation.class)) return false;
-
-		final Confirmation confirmation = method.getAnnotation(Confirmation.class);
-
+	public boolean checkConfirmations(final CommandSender sender, final Command command, final Confirmation confirmation) {
+		if (confirmation == null) return false;
 		if (confirmation.expireAfter() <= 0) return false;
 
 		final boolean isConsoleSender = sender instanceof ConsoleCommandSender;
@@ -26,6 +26,7 @@ import dev.despical.commandframework.annotations.Completer;
 import dev.despical.commandframework.annotations.Cooldown;
 import dev.despical.commandframework.exceptions.CommandException;
 import dev.despical.commandframework.exceptions.CooldownException;
+import dev.despical.commandframework.internal.CommandMetadata;
 import dev.despical.commandframework.options.FrameworkOption;
 import dev.despical.commandframework.utils.Utils;
 import org.bukkit.command.CommandSender;
@@ -61,9 +62,7 @@ public final class CooldownManager {
 	}
 
 	public boolean hasCooldown(CommandArguments arguments) {
-		if (!this.commandFramework.options().isEnabled(FrameworkOption.CUSTOM_COOLDOWN_CHECKER)) {
-			throw new CommandException("Custom cooldown checker option must be enabled to use CommandArguments#hasCooldown method!");
-		}
+		this.ensureCustomCheckerEnabled();
 
 		final Method method = this.getCallingMethod();
 
@@ -75,15 +74,21 @@ public final class CooldownManager {
 
 		final Command command = method.getAnnotation(Command.class);
 
-		return this.hasCooldown(arguments, command, method);
+		return this.hasCooldown(arguments, command, method.getAnnotation(Cooldown.class));
 	}
 
-	public boolean hasCooldown(final CommandArguments arguments, final Command command, final Method method) {
-		if (method == null) return false;
-		if (!method.isAnnotationPresent(Cooldown.class)) return false;
+	/**
+	 * Checks the cooldown of a command that was matched by the framework, using the
+	 * metadata captured at registration instead of walking the stack.
+	 */
+	public boolean hasCustomCooldown(final CommandArguments arguments, final Command command, final Cooldown cooldown) {
+		this.ensureCustomCheckerEnabled();
 
-		final Cooldown cooldown = method.getAnnotation(Cooldown.class);
+		return this.hasCooldown(arguments, command, cooldown);
+	}
 
+	public boolean hasCooldown(final CommandArguments arguments, final Command matchedCommand, final Cooldown cooldown) {
+		if (cooldown == null) return false;
 		if (cooldown.value() <= 0) return false;
 
 		final boolean isConsoleSender = arguments.isSenderConsole();
@@ -93,6 +98,8 @@ public final class CooldownManager {
 		if (!isConsoleSender && !cooldown.bypassPerm().isEmpty() && sender.hasPermission(cooldown.bypassPerm()))
 			return false;
 
+		// Aliases share the cooldown of their command.
+		final Command command = CommandMetadata.original(matchedCommand);
 		final Map<Command, Long> cooldownMap = cooldowns.get(sender);
 
 		if (cooldownMap == null) {
@@ -120,6 +127,12 @@ public final class CooldownManager {
 		}
 	}
 
+	private void ensureCustomCheckerEnabled() {
+		if (!this.commandFramework.options().isEnabled(FrameworkOption.CUSTOM_COOLDOWN_CHECKER)) {
+			throw new CommandException("Custom cooldown checker option must be enabled to use CommandArguments#hasCooldown method!");
+		}
+	}
+
 	private boolean handleCooldowns() {
 		if (!this.commandFramework.options().isEnabled(FrameworkOption.CUSTOM_COOLDOWN_CHECKER)) {
 			return true;
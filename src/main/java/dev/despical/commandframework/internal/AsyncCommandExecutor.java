@@ -0,0 +1,103 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import dev.despical.commandframework.options.FrameworkOption;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs asynchronous commands on a dedicated virtual thread per task, optionally
+ * limiting how many of them can run at the same time.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ *
+ * @see FrameworkOption#VIRTUAL_THREADS
+ */
+@ApiStatus.Internal
+public final class AsyncCommandExecutor implements Executor {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public AsyncCommandExecutor(int concurrencyLimit) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("CommandFramework-Async-", 0).factory());
+        this.permits = concurrencyLimit > 0 ? new Semaphore(concurrencyLimit) : null;
+    }
+
+    @Override
+    public void execute(@NotNull Runnable task) {
+        if (permits == null) {
+            executor.execute(task);
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Stops accepting new commands and waits for the running ones to complete
+     * before interrupting them.
+     *
+     * @param timeout the time to wait in milliseconds, 0 to return immediately
+     *                and let the running commands complete on their own
+     * @return whether all commands completed in time
+     */
+    public boolean shutdown(long timeout) {
+        executor.shutdown();
+
+        if (timeout == 0) {
+            return executor.isTerminated();
+        }
+
+        try {
+            if (executor.awaitTermination(timeout, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+
+            executor.shutdownNow();
+            return false;
+        } catch (InterruptedException exception) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
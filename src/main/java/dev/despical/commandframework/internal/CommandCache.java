@@ -0,0 +1,232 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import dev.despical.commandframework.annotations.Command;
+import dev.despical.commandframework.parser.OptionSchema;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * A bounded cache of the commands matched for whole command lines, for commands
+ * that are executed with the same arguments over and over, e.g. by command blocks.
+ * <p>
+ * The cache is a direct-mapped table without locks, a command line replaces the
+ * one that was cached in the same slot. Entries remember the trie they were
+ * matched in and are only used while that trie is published, so a registry
+ * mutation invalidates them even if it races with a dispatch.
+ * <p>
+ * Besides the match, an entry keeps the parsed options and flags of its command
+ * line. They are parsed the first time an execution reads them and shared with
+ * the later executions of the same command line.
+ *
+ * @author Despical
+ * <p>
+ * Created at 17.10.2026
+ */
+@ApiStatus.Internal
+public final class CommandCache {
+
+    private final IntSupplier maximumSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // Created with the first entry, so the size option is read after it is configured.
+    private volatile AtomicReferenceArray<Entry> slots;
+
+    public CommandCache(@NotNull IntSupplier maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * @param label the name of the root command
+     * @param arguments the arguments of the command line
+     * @param trie the currently published trie
+     * @return the entry of the command line, or {@code null} if it is not cached for the trie
+     */
+    @Nullable
+    public Entry get(@NotNull String label, @NotNull String[] arguments, @NotNull CommandTrie<Command> trie) {
+        AtomicReferenceArray<Entry> slots = this.slots;
+        int hash = hash(label, arguments);
+        Entry entry = slots != null ? slots.getAcquire(hash & (slots.length() - 1)) : null;
+
+        if (entry == null || entry.trie != trie || !entry.matches(hash, label, arguments)) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry;
+    }
+
+    /**
+     * @param label the name of the root command
+     * @param arguments the arguments of the command line, copied
+     * @param trie the trie the member was matched in
+     * @param member the matched command
+     * @return the new entry
+     */
+    @NotNull
+    public Entry put(@NotNull String label, @NotNull String[] arguments, @NotNull CommandTrie<Command> trie, @NotNull RegisteredMember<Command> member) {
+        AtomicReferenceArray<Entry> slots = this.slots;
+
+        // Racing puts may create separate tables, the entries of the lost one are matched again.
+        if (slots == null) {
+            this.slots = slots = new AtomicReferenceArray<>(tableSize(maximumSize.getAsInt()));
+        }
+
+        int hash = hash(label, arguments);
+        Entry entry = new Entry(hash, label, arguments.clone(), trie, member);
+
+        slots.setRelease(hash & (slots.length() - 1), entry);
+        return entry;
+    }
+
+    public void clear() {
+        this.slots = null;
+    }
+
+    /**
+     * @return the number of executions that used a cached match
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of executions that had to match the command
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        AtomicReferenceArray<Entry> slots = this.slots;
+        int size = 0;
+
+        for (int i = 0; slots != null && i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                size++;
+            }
+        }
+
+        return size;
+    }
+
+    private static int hash(String label, String[] arguments) {
+        int hash = label.hashCode();
+
+        for (String argument : arguments) {
+            hash = 31 * hash + argument.hashCode();
+        }
+
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSize(int maximumSize) {
+        int size = 1;
+
+        while (size < maximumSize) {
+            size <<= 1;
+        }
+
+        return size;
+    }
+
+    /**
+     * A cached command line with its match.
+     */
+    public static final class Entry {
+
+        private final int hash;
+        private final String label;
+        private final String[] arguments;
+        private final CommandTrie<Command> trie;
+        private final RegisteredMember<Command> member;
+
+        // Parsed on first use, null until then or if the options have to be converted for every execution.
+        private volatile OptionSchema.Result options;
+
+        private Entry(int hash, String label, String[] arguments, CommandTrie<Command> trie, RegisteredMember<Command> member) {
+            this.hash = hash;
+            this.label = label;
+            this.arguments = arguments;
+            this.trie = trie;
+            this.member = member;
+        }
+
+        /**
+         * @return the trie the member was matched in
+         */
+        @NotNull
+        public CommandTrie<Command> trie() {
+            return trie;
+        }
+
+        /**
+         * @return the matched command with its plan
+         */
+        @NotNull
+        public RegisteredMember<Command> member() {
+            return member;
+        }
+
+        /**
+         * @return the index of the first argument after the sub-command path
+         */
+        public int argumentOffset() {
+            return member.plan().argumentOffset();
+        }
+
+        /**
+         * Returns the parsed options and flags of this command line, parsing them on
+         * the first call. The result views the copy of the arguments kept by this entry.
+         *
+         * @return the parsed options and flags
+         */
+        @NotNull
+        public OptionSchema.Result options() {
+            OptionSchema.Result result = this.options;
+
+            if (result != null) {
+                return result;
+            }
+
+            int offset = argumentOffset();
+            result = member.plan().optionSchema().parse(arguments, offset, arguments.length - offset);
+
+            // Converters may create mutable values, those are converted for every execution.
+            if (result.typedOptions().isEmpty()) {
+                this.options = result;
+            }
+
+            return result;
+        }
+
+        private boolean matches(int hash, String label, String[] arguments) {
+            return this.hash == hash && this.label.equals(label) && Arrays.equals(this.arguments, arguments);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Reads the command index generated by the framework's annotation processor.
+ * <p>
+ * The index lists every top-level class that declares command or completer
+ * methods, one binary class name per line.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+public final class CommandIndex {
+
+    public static final String LOCATION = "META-INF/commandframework/commands.idx";
+
+    private CommandIndex() {
+    }
+
+    /**
+     * Returns the indexed classes in the given package and its sub-packages.
+     *
+     * @param classLoader the class loader to look up the index from
+     * @param packageName the package to filter the classes by
+     * @return the indexed class names, or an empty list if there is no index for the package
+     * @throws IOException if an index exists but could not be read
+     */
+    @NotNull
+    public static List<String> read(@NotNull ClassLoader classLoader, @NotNull String packageName) throws IOException {
+        String prefix = packageName + ".";
+        List<String> classNames = new ArrayList<>();
+        Enumeration<URL> indexes = classLoader.getResources(LOCATION);
+
+        while (indexes.hasMoreElements()) {
+            URL index = indexes.nextElement();
+
+            try (var reader = new BufferedReader(new InputStreamReader(index.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+
+                    if (line.startsWith(prefix) && !classNames.contains(line)) {
+                        classNames.add(line);
+                    }
+                }
+            }
+        }
+
+        return classNames;
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import dev.despical.commandframework.CommandDispatcher;
+import dev.despical.commandframework.CommandFramework;
+import dev.despical.commandframework.annotations.Command;
+import dev.despical.commandframework.annotations.Completer;
+import dev.despical.commandframework.debug.Debug;
+import dev.despical.commandframework.exceptions.CommandException;
+import dev.despical.commandframework.utils.CommandNameValidator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Level;
+
+/**
+ * Reads the commands and completers of classes into registrations that the
+ * registry can insert into its tree.
+ * <p>
+ * Introspection does not touch the registry. Classes can be loaded and scanned
+ * concurrently, then they are instantiated and bound on the registering thread
+ * and merged afterwards.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+public final class CommandIntrospector {
+
+    private final Map<Class<?>, Optional<CommandDispatcher>> dispatchers = new ConcurrentHashMap<>();
+
+    /**
+     * Loads, instantiates and introspects the given classes.
+     * <p>
+     * In parallel mode only the classes are loaded and their methods read on the
+     * common fork-join pool. The classes are instantiated and their members bound
+     * afterwards on the calling thread, in the order of the given names, since
+     * constructors of command classes may use the Bukkit API.
+     *
+     * @param classNames the binary names of the classes
+     * @param classLoader the class loader to load the classes with
+     * @param parameterHandler the handler to bind the method parameters with
+     * @param debugEnabled whether members annotated with {@link Debug} are included
+     * @param parallel whether the classes are scanned on the common fork-join pool
+     * @param lazy whether the instances are created and the methods linked on first use
+     * @return a result for every class, in the order of the given names
+     */
+    @NotNull
+    public List<ClassResult> introspectAll(
+        @NotNull List<String> classNames,
+        @NotNull ClassLoader classLoader,
+        @NotNull ParameterHandler parameterHandler,
+        boolean debugEnabled,
+        boolean parallel,
+        boolean lazy
+    ) {
+        List<ScannedClass> scanned = new ArrayList<>(classNames.size());
+
+        if (parallel) {
+            List<ForkJoinTask<ScannedClass>> tasks = new ArrayList<>(classNames.size());
+
+            for (String className : classNames) {
+                tasks.add(ForkJoinPool.commonPool().submit(() -> scanClass(className, classLoader, debugEnabled)));
+            }
+
+            for (ForkJoinTask<ScannedClass> task : tasks) {
+                scanned.add(task.join());
+            }
+        } else {
+            for (String className : classNames) {
+                scanned.add(scanClass(className, classLoader, debugEnabled));
+            }
+        }
+
+        List<ClassResult> results = new ArrayList<>(scanned.size());
+
+        for (ScannedClass scannedClass : scanned) {
+            results.add(linkClass(scannedClass, parameterHandler, lazy));
+        }
+
+        return results;
+    }
+
+    /**
+     * Introspects the given methods of an already created instance.
+     *
+     * @param instance the instance to bind the methods to
+     * @param methods the candidate methods
+     * @param parameterHandler the handler to bind the method parameters with
+     * @param debugEnabled whether members annotated with {@link Debug} are included
+     * @return the registration of the instance
+     * @throws CommandException if a command or completer has invalid metadata or a parameter without provider
+     */
+    @NotNull
+    public ClassRegistration introspect(
+        @NotNull Object instance,
+        @NotNull Method[] methods,
+        @NotNull ParameterHandler parameterHandler,
+        boolean debugEnabled
+    ) {
+        return link(instance, null, scan(methods, debugEnabled), parameterHandler);
+    }
+
+    /**
+     * Reads the metadata of the members, without touching the instance or the
+     * parameter handler, so it is safe to run on any thread.
+     */
+    private static List<ScannedMember> scan(Method[] methods, boolean debugEnabled) {
+        List<ScannedMember> members = new ArrayList<>();
+
+        for (Method method : methods) {
+            if (!debugEnabled && method.isAnnotationPresent(Debug.class)) {
+                continue;
+            }
+
+            Command annotation = method.getAnnotation(Command.class);
+
+            if (annotation != null) {
+                validateCommandMetadata(annotation, method);
+
+                Command command = CommandMetadata.of(annotation);
+                members.add(new ScannedMember(method, command, InvocationPlan.forCommand(command, method)));
+                continue;
+            }
+
+            if (!method.isAnnotationPresent(Completer.class)) {
+                continue;
+            }
+
+            Class<?> returnType = method.getReturnType();
+            if (!List.class.isAssignableFrom(returnType) && !CompletionStage.class.isAssignableFrom(returnType)) continue;
+
+            Completer completer = CompleterMetadata.of(method.getAnnotation(Completer.class));
+            validateCompleterMetadata(completer, method);
+
+            members.add(new ScannedMember(method, completer, InvocationPlan.forCompleter(completer.name(), completer, method)));
+        }
+
+        return members;
+    }
+
+    private ClassRegistration link(
+        Object instance,
+        LazyMemberInvoker.LazyInstance lazyInstance,
+        List<ScannedMember> members,
+        ParameterHandler parameterHandler
+    ) {
+        List<PendingMember<Command>> commands = new ArrayList<>();
+        List<PendingMember<Completer>> completers = new ArrayList<>();
+
+        for (ScannedMember member : members) {
+            if (member.annotation() instanceof Command command) {
+                addCommand(commands, command, member.method(), member.plan(), instance, lazyInstance, parameterHandler);
+            } else {
+                addCompleter(completers, (Completer) member.annotation(), member.method(), member.plan(), instance, lazyInstance, parameterHandler);
+            }
+        }
+
+        return new ClassRegistration(commands, completers);
+    }
+
+    private static ScannedClass scanClass(String className, ClassLoader classLoader, boolean debugEnabled) {
+        try {
+            Class<?> clazz = Class.forName(className, false, classLoader);
+
+            if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())) {
+                return new ScannedClass(className, null, List.of(), null);
+            }
+
+            if (!debugEnabled && clazz.isAnnotationPresent(Debug.class)) {
+                return new ScannedClass(className, null, List.of(), null);
+            }
+
+            Method[] methods = clazz.getDeclaredMethods();
+
+            // Classes without any members are not instantiated, they may be helpers of the command classes.
+            if (!declaresMembers(methods)) {
+                return new ScannedClass(className, null, List.of(), null);
+            }
+
+            return new ScannedClass(className, clazz.getDeclaredConstructor(), scan(methods, debugEnabled), null);
+        } catch (Exception | LinkageError error) {
+            return new ScannedClass(className, null, List.of(), error);
+        }
+    }
+
+    private ClassResult linkClass(ScannedClass scanned, ParameterHandler parameterHandler, boolean lazy) {
+        String className = scanned.className();
+
+        if (scanned.error() != null || scanned.constructor() == null) {
+            return new ClassResult(className, null, scanned.error());
+        }
+
+        try {
+            if (lazy) {
+                var lazyInstance = new LazyMemberInvoker.LazyInstance(scanned.constructor());
+                return new ClassResult(className, link(null, lazyInstance, scanned.members(), parameterHandler), null);
+            }
+
+            Object instance = scanned.constructor().newInstance();
+            return new ClassResult(className, link(instance, null, scanned.members(), parameterHandler), null);
+        } catch (InvocationTargetException exception) {
+            return new ClassResult(className, null, exception.getCause());
+        } catch (Exception | LinkageError error) {
+            return new ClassResult(className, null, error);
+        }
+    }
+
+    private static boolean declaresMembers(Method[] methods) {
+        for (Method method : methods) {
+            if (method.isAnnotationPresent(Command.class) || method.isAnnotationPresent(Completer.class)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private void addCommand(
+        List<PendingMember<Command>> commands,
+        Command command,
+        Method method,
+        InvocationPlan plan,
+        Object instance,
+        LazyMemberInvoker.LazyInstance lazyInstance,
+        ParameterHandler parameterHandler
+    ) {
+        MemberInvoker invoker = createInvoker(instance, lazyInstance, method, command.name());
+
+        if (invoker == null) {
+            return;
+        }
+
+        plan = plan.bind(parameterHandler.bind(method, plan.parameters()), parameterHandler.bindOptions(method, plan.optionSchema()));
+
+        commands.add(new PendingMember<>(command.name(),
+            new RegisteredMember<>(instance, method, invoker, command, plan)));
+
+        for (String alias : command.aliases()) {
+            Command aliasCommand = CommandMetadata.rename(command, alias);
+
+            commands.add(new PendingMember<>(alias,
+                new RegisteredMember<>(instance, method, invoker, aliasCommand, plan.withAnnotation(aliasCommand))));
+        }
+    }
+
+    private void addCompleter(
+        List<PendingMember<Completer>> completers,
+        Completer completer,
+        Method method,
+        InvocationPlan plan,
+        Object instance,
+        LazyMemberInvoker.LazyInstance lazyInstance,
+        ParameterHandler parameterHandler
+    ) {
+        MemberInvoker invoker = createInvoker(instance, lazyInstance, method, completer.name());
+
+        if (invoker == null) {
+            return;
+        }
+
+        ParameterResolver[] resolvers = parameterHandler.bind(method, plan.parameters());
+
+        completers.add(new PendingMember<>(completer.name(),
+            new RegisteredMember<>(instance, method, invoker, completer, plan.bind(resolvers))));
+
+        for (String alias : completer.aliases()) {
+            completers.add(new PendingMember<>(alias,
+                new RegisteredMember<>(instance, method, invoker, completer, InvocationPlan.forCompleter(alias, completer, method).bind(resolvers))));
+        }
+    }
+
+    @Nullable
+    private MemberInvoker createInvoker(Object instance, LazyMemberInvoker.LazyInstance lazyInstance, Method method, String name) {
+        if (lazyInstance != null) {
+            return new LazyMemberInvoker(this, lazyInstance, method);
+        }
+
+        try {
+            return link(instance, method);
+        } catch (IllegalAccessException exception) {
+            CommandFramework.getInstance().getLogger().log(Level.SEVERE, "Failed to link the method of: " + name, exception);
+            return null;
+        }
+    }
+
+    MemberInvoker link(Object instance, Method method) throws IllegalAccessException {
+        CommandDispatcher dispatcher = dispatchers.computeIfAbsent(method.getDeclaringClass(), this::loadDispatcher).orElse(null);
+
+        if (dispatcher != null) {
+            CommandDispatcher.Invoker invoker = dispatcher.bind(instance, signatureOf(method));
+
+            if (invoker != null) {
+                return invoker;
+            }
+        }
+
+        return MemberInvoker.of(instance, method);
+    }
+
+    private Optional<CommandDispatcher> loadDispatcher(Class<?> clazz) {
+        try {
+            Class<?> dispatcherClass = Class.forName(clazz.getName() + CommandDispatcher.CLASS_SUFFIX, true, clazz.getClassLoader());
+            return Optional.of((CommandDispatcher) dispatcherClass.getDeclaredConstructor().newInstance());
+        } catch (ClassNotFoundException ignored) {
+            return Optional.empty();
+        } catch (ReflectiveOperationException | ClassCastException exception) {
+            CommandFramework.getInstance().getLogger().log(Level.WARNING, "Could not load the generated dispatcher of: " + clazz.getName(), exception);
+            return Optional.empty();
+        }
+    }
+
+    private static String signatureOf(Method method) {
+        StringJoiner signature = new StringJoiner(",", method.getName() + "(", ")");
+
+        for (Class<?> type : method.getParameterTypes()) {
+            String name = type.getCanonicalName();
+            signature.add(name != null ? name : type.getName());
+        }
+
+        return signature.toString();
+    }
+
+    private static void validateCommandMetadata(Command command, Method method) {
+        try {
+            String normalizedName = CommandNameValidator.normalizeName(command.name(), "name");
+            CommandNameValidator.normalizeAliases(command.aliases(), normalizedName);
+        } catch (IllegalArgumentException exception) {
+            throw new CommandException(
+                "Invalid @Command metadata in method ''{0}#{1}'': {2}",
+                method.getDeclaringClass().getSimpleName(), method.getName(), exception.getMessage()
+            );
+        }
+    }
+
+    private static void validateCompleterMetadata(Completer completer, Method method) {
+        try {
+            String normalizedName = CommandNameValidator.normalizeName(completer.name(), "name");
+            CommandNameValidator.normalizeAliases(completer.aliases(), normalizedName);
+        } catch (IllegalArgumentException exception) {
+            throw new CommandException(
+                "Invalid @Completer metadata in method ''{0}#{1}'': {2}",
+                method.getDeclaringClass().getSimpleName(), method.getName(), exception.getMessage()
+            );
+        }
+    }
+
+    /**
+     * The members read from a single class.
+     *
+     * @param commands the commands including their aliases
+     * @param completers the completers including their aliases
+     */
+    public record ClassRegistration(@NotNull List<PendingMember<Command>> commands, @NotNull List<PendingMember<Completer>> completers) {
+    }
+
+    /**
+     * A member waiting to be inserted into the tree.
+     *
+     * @param path the dot separated path of the member
+     * @param member the member itself
+     */
+    public record PendingMember<T extends Annotation>(@NotNull String path, @NotNull RegisteredMember<T> member) {
+    }
+
+    /**
+     * The outcome of introspecting a class by name. A class without a
+     * registration and error was skipped.
+     *
+     * @param className the binary name of the class
+     * @param registration the registration, or {@code null} if skipped or failed
+     * @param error the failure, or {@code null} if there is none
+     */
+    public record ClassResult(@NotNull String className, @Nullable ClassRegistration registration, @Nullable Throwable error) {
+    }
+
+    private record ScannedMember(Method method, Annotation annotation, InvocationPlan plan) {
+    }
+
+    private record ScannedClass(String className, @Nullable Constructor<?> constructor, List<ScannedMember> members, @Nullable Throwable error) {
+    }
+}
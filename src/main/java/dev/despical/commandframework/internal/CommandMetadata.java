@@ -0,0 +1,272 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import dev.despical.commandframework.CommandAttributes;
+import dev.despical.commandframework.annotations.Command;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+
+/**
+ * Plain snapshot of a {@link Command} annotation.
+ * <p>
+ * Annotation instances returned by reflection are dynamic proxies, so every
+ * attribute read goes through an invocation handler and {@link #hashCode()}
+ * is recomputed on each call. This snapshot is captured once at registration
+ * and follows the {@link Annotation} equality contract, so it stays
+ * interchangeable with the original annotation in maps and sets.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ * @see CommandAttributes#toCommand()
+ */
+@SuppressWarnings("ClassExplicitlyAnnotation")
+public final class CommandMetadata implements Command {
+
+    private final String name;
+    private final String fallbackPrefix;
+    private final String permission;
+    private final String[] aliases;
+    private final String desc;
+    private final String usage;
+    private final int min;
+    private final int max;
+    private final boolean onlyOp;
+    private final boolean async;
+    private final SenderType senderType;
+    private final int hash;
+
+    // The command this one was renamed from, not part of the annotation equality.
+    private final Command source;
+
+    public CommandMetadata(
+        @NotNull String name,
+        @NotNull String fallbackPrefix,
+        @NotNull String permission,
+        @NotNull String[] aliases,
+        @NotNull String desc,
+        @NotNull String usage,
+        int min,
+        int max,
+        boolean onlyOp,
+        boolean async,
+        @NotNull SenderType senderType
+    ) {
+        this(name, fallbackPrefix, permission, aliases, desc, usage, min, max, onlyOp, async, senderType, null);
+    }
+
+    private CommandMetadata(
+        @NotNull String name,
+        @NotNull String fallbackPrefix,
+        @NotNull String permission,
+        @NotNull String[] aliases,
+        @NotNull String desc,
+        @NotNull String usage,
+        int min,
+        int max,
+        boolean onlyOp,
+        boolean async,
+        @NotNull SenderType senderType,
+        @Nullable Command source
+    ) {
+        this.name = name;
+        this.fallbackPrefix = fallbackPrefix;
+        this.permission = permission;
+        this.aliases = aliases.clone();
+        this.desc = desc;
+        this.usage = usage;
+        this.min = min;
+        this.max = max;
+        this.onlyOp = onlyOp;
+        this.async = async;
+        this.senderType = senderType;
+        this.hash = hashOf();
+        this.source = source;
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    public static CommandMetadata of(@NotNull Command command) {
+        if (command instanceof CommandMetadata metadata) {
+            return metadata;
+        }
+
+        return new CommandMetadata(
+            command.name(),
+            command.fallbackPrefix(),
+            command.permission(),
+            command.aliases(),
+            command.desc(),
+            command.usage(),
+            command.min(),
+            command.max(),
+            command.onlyOp(),
+            command.async(),
+            command.senderType()
+        );
+    }
+
+    /**
+     * Creates the metadata of a command that is registered under a different name,
+     * like an alias, inheriting the rest of the attributes from the given command.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static CommandMetadata rename(@NotNull Command command, @NotNull String name) {
+        return new CommandMetadata(name, command.fallbackPrefix(), command.permission(), new String[0], command.desc(),
+            command.usage(), command.min(), command.max(), command.onlyOp(), command.async(), command.senderType(),
+            original(command));
+    }
+
+    /**
+     * Returns the command the given one was {@linkplain #rename(Command, String) renamed} from,
+     * so an alias shares the state of its command, like cooldowns.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static Command original(@NotNull Command command) {
+        if (command instanceof CommandMetadata metadata && metadata.source != null) {
+            return metadata.source;
+        }
+
+        return command;
+    }
+
+    /**
+     * Creates the metadata of a command that only exists to hold its sub-commands.
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static CommandMetadata empty(@NotNull String name) {
+        return new CommandMetadata(name, "", "", new String[0], "", "", 0, -1, false, false, SenderType.BOTH);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public String fallbackPrefix() {
+        return fallbackPrefix;
+    }
+
+    @Override
+    public String permission() {
+        return permission;
+    }
+
+    @Override
+    public String[] aliases() {
+        return aliases.clone();
+    }
+
+    @Override
+    public String desc() {
+        return desc;
+    }
+
+    @Override
+    public String usage() {
+        return usage;
+    }
+
+    @Override
+    public int min() {
+        return min;
+    }
+
+    @Override
+    public int max() {
+        return max;
+    }
+
+    @Override
+    public boolean onlyOp() {
+        return onlyOp;
+    }
+
+    @Override
+    public boolean async() {
+        return async;
+    }
+
+    @Override
+    public SenderType senderType() {
+        return senderType;
+    }
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+        return Command.class;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof Command command)) return false;
+
+        return hashCode() == command.hashCode() &&
+            min == command.min() &&
+            max == command.max() &&
+            onlyOp == command.onlyOp() &&
+            async == command.async() &&
+            senderType == command.senderType() &&
+            name.equals(command.name()) &&
+            fallbackPrefix.equals(command.fallbackPrefix()) &&
+            permission.equals(command.permission()) &&
+            desc.equals(command.desc()) &&
+            usage.equals(command.usage()) &&
+            Arrays.equals(aliases, command.aliases());
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "@" + Command.class.getName() + "(name=\"" + name + "\")";
+    }
+
+    // Follows Annotation#hashCode so that equal annotation proxies produce the same hash.
+    private int hashOf() {
+        return member("name", name.hashCode()) +
+            member("fallbackPrefix", fallbackPrefix.hashCode()) +
+            member("permission", permission.hashCode()) +
+            member("aliases", Arrays.hashCode(aliases)) +
+            member("desc", desc.hashCode()) +
+            member("usage", usage.hashCode()) +
+            member("min", Integer.hashCode(min)) +
+            member("max", Integer.hashCode(max)) +
+            member("onlyOp", Boolean.hashCode(onlyOp)) +
+            member("async", Boolean.hashCode(async)) +
+            member("senderType", senderType.hashCode());
+    }
+
+    static int member(String name, int valueHash) {
+        return (127 * name.hashCode()) ^ valueHash;
+    }
+}
@@ -18,11 +18,16 @@
 
 package dev.despical.commandframework.internal;
 
+import org.jetbrains.annotations.NotNull;
+
 import java.lang.annotation.Annotation;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
+ * Mutable node of the registry's working tree. Published lookups go through
+ * {@link CommandTrie}, which is built from these nodes.
+ *
  * @author Despical
  * <p>
  * Created at 30.12.2025
@@ -31,7 +36,8 @@ public final class CommandNode<T extends Annotation> {
 
     private RegisteredMember<T> member;
 
-    private final Map<String, CommandNode<T>> children = new HashMap<>();
+    // Most nodes are leaves, so the map is only created with the first child.
+    private Map<String, CommandNode<T>> children;
 
     public RegisteredMember<T> getMember() {
         return member;
@@ -41,7 +47,48 @@ public final class CommandNode<T extends Annotation> {
         this.member = member;
     }
 
+    /**
+     * @return a read-only view of the children, use the mutator methods to change them
+     */
+    @NotNull
     public Map<String, CommandNode<T>> getChildren() {
-        return children;
+        return children == null ? Map.of() : children;
+    }
+
+    @NotNull
+    public CommandNode<T> getOrCreateChild(@NotNull String name) {
+        if (children == null) {
+            children = new HashMap<>(4);
+        }
+
+        return children.computeIfAbsent(name, key -> new CommandNode<>());
+    }
+
+    public void putChild(@NotNull String name, @NotNull CommandNode<T> node) {
+        if (children == null) {
+            children = new HashMap<>(4);
+        }
+
+        children.put(name, node);
+    }
+
+    public CommandNode<T> removeChild(@NotNull String name) {
+        return children == null ? null : children.remove(name);
+    }
+
+    /**
+     * @return a copy of this node and all of its descendants, sharing the members
+     */
+    @NotNull
+    public CommandNode<T> copy() {
+        CommandNode<T> copy = new CommandNode<>();
+        copy.member = member;
+
+        if (children != null) {
+            copy.children = new HashMap<>(children.size());
+            children.forEach((name, child) -> copy.children.put(name, child.copy()));
+        }
+
+        return copy;
     }
 }
@@ -26,12 +26,11 @@ import dev.despical.commandframework.annotations.Completer;
 import dev.despical.commandframework.debug.Debug;
 import dev.despical.commandframework.exceptions.CommandException;
 import dev.despical.commandframework.options.FrameworkOption;
-import dev.despical.commandframework.utils.CommandNameValidator;
-import dev.despical.commandframework.utils.Utils;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandMap;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.command.SimpleCommandMap;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.SimplePluginManager;
 import org.jetbrains.annotations.ApiStatus;
@@ -40,12 +39,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
-import java.lang.invoke.MethodHandle;
-import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.logging.Level;
@@ -79,6 +74,22 @@ public final class CommandRegistry {
 
     private final Map<String, CommandNode<Command>> commandTree = new HashMap<>();
     private final Map<String, CommandNode<Completer>> completionTree = new HashMap<>();
+    private final CommandIntrospector introspector = new CommandIntrospector();
+
+    // Root commands as they were last registered to Bukkit, used to only apply what changed.
+    private final Map<String, Command> syncedRoots = new HashMap<>();
+
+    // Members registered since the last commit, warmed up after it if enabled.
+    private final List<RegisteredMember<?>> warmUpQueue = new ArrayList<>();
+
+    private int batchDepth;
+    private boolean commitPending;
+
+    // Published copies of the trees above, read by the matcher without locking.
+    private volatile CommandTrie<Command> commandTrie = CommandTrie.empty();
+    private volatile CommandTrie<Completer> completionTrie = CommandTrie.empty();
+
+    private final CommandCache matchCache = new CommandCache(() -> CommandFramework.getInstance().options().getCommandCacheSize());
 
     public CommandRegistry() {
         var pluginManager = Bukkit.getServer().getPluginManager();
@@ -90,7 +101,7 @@ public final class CommandRegistry {
         }
     }
 
-    public void registerCommands(@NotNull Object instance) {
+    public synchronized void registerCommands(@NotNull Object instance) {
         var framework = CommandFramework.getInstance();
         boolean debugEnabled = framework.options().isEnabled(FrameworkOption.DEBUG);
 
@@ -100,123 +111,264 @@ public final class CommandRegistry {
             return;
         }
 
-        for (Method method : clazz.getMethods()) {
-            if (!debugEnabled && method.isAnnotationPresent(Debug.class)) {
-                continue;
-            }
+        this.insert(introspector.introspect(instance, clazz.getMethods(), framework.getParameterHandler(), debugEnabled));
+        this.commit();
+    }
 
-            Command command = method.getAnnotation(Command.class);
+    public synchronized void registerAllInPackage(@NotNull String packageName) {
+        var framework = CommandFramework.getInstance();
+        var options = framework.options();
+        ClassLoader classLoader = framework.getPlugin().getClass().getClassLoader();
 
-            if (command != null) {
-                this.registerCommand(command, method, instance);
-                continue;
+        try {
+            List<String> classNames = CommandIndex.read(classLoader, packageName);
+
+            if (classNames.isEmpty()) {
+                classNames = ClassPath.from(classLoader).getTopLevelClassesRecursive(packageName).stream()
+                    .map(ClassPath.ClassInfo::getName)
+                    .toList();
             }
 
-            if (method.isAnnotationPresent(Completer.class)) {
-                this.registerCompleter(instance, method);
+            // Sorted so that the merge order, and therefore conflicting registrations, do not depend on the scan.
+            classNames = classNames.stream().sorted().toList();
+
+            var results = introspector.introspectAll(classNames, classLoader, framework.getParameterHandler(),
+                options.isEnabled(FrameworkOption.DEBUG),
+                options.isEnabled(FrameworkOption.PARALLEL_SCANNING),
+                options.isEnabled(FrameworkOption.LAZY_INSTANTIATION));
+
+            for (CommandIntrospector.ClassResult result : results) {
+                if (result.error() != null) {
+                    framework.getLogger().log(Level.SEVERE, "Could not register command class: " + result.className(), result.error());
+                    continue;
+                }
+
+                if (result.registration() != null) {
+                    this.insert(result.registration());
+                }
             }
-        }
 
-        this.verifySubCommandHierarchy();
+            this.commit();
+        } catch (IOException exception) {
+            framework.getLogger().log(Level.SEVERE, "Package scanning failed", exception);
+        }
     }
 
-    public void registerAllInPackage(@NotNull String packageName) {
-        var framework = CommandFramework.getInstance();
-        boolean debugEnabled = framework.options().isEnabled(FrameworkOption.DEBUG);
-        Plugin plugin = framework.getPlugin();
+    private void insert(CommandIntrospector.ClassRegistration registration) {
+        boolean warmUp = CommandFramework.getInstance().options().isEnabled(FrameworkOption.WARM_UP);
 
-        try {
-            ClassPath cp = ClassPath.from(plugin.getClass().getClassLoader());
+        for (var pending : registration.commands()) {
+            innerRegister(pending.path(), pending.member());
 
-            for (var info : cp.getTopLevelClassesRecursive(packageName)) {
-                Class<?> clazz = info.load();
+            if (warmUp) warmUpQueue.add(pending.member());
+        }
 
-                if (clazz.isInterface() || Modifier.isAbstract(clazz.getModifiers())) {
-                    continue;
-                }
+        for (var pending : registration.completers()) {
+            innerRegisterCompleter(pending.path(), pending.member());
 
-                if (!debugEnabled && clazz.isAnnotationPresent(Debug.class)) {
-                    continue;
-                }
+            if (warmUp) warmUpQueue.add(pending.member());
+        }
+    }
 
-                try {
-                    Object instance = clazz.getDeclaredConstructor().newInstance();
+    private void innerRegister(String name, RegisteredMember<Command> member) {
+        String[] parts = name.split("\\.");
+        CommandNode<Command> node = commandTree.computeIfAbsent(parts[0], k -> new CommandNode<>());
 
-                    for (Method method : clazz.getDeclaredMethods()) {
-                        if (!debugEnabled && method.isAnnotationPresent(Debug.class)) {
-                            continue;
-                        }
+        for (int i = 1; i < parts.length; i++) {
+            node = node.getOrCreateChild(parts[i]);
+        }
+
+        node.setMember(member);
+        addToCache(member.annotation());
+    }
 
-                        Command command = method.getAnnotation(Command.class);
+    private void verifySubCommandHierarchy() {
+        for (Map.Entry<String, CommandNode<Command>> entry : commandTree.entrySet()) {
+            String label = entry.getKey();
+            CommandNode<Command> node = entry.getValue();
 
-                        if (command != null) {
-                            registerCommand(command, method, instance);
-                            continue;
-                        }
+            if (node.getMember() == null && !node.getChildren().isEmpty()) {
+                Command dummy = CommandMetadata.empty(label);
+                node.setMember(new RegisteredMember<>(new Object(), null, null, dummy, InvocationPlan.forCommand(dummy, null)));
 
-                        if (method.isAnnotationPresent(Completer.class)) {
-                            registerCompleter(instance, method);
-                        }
-                    }
-                } catch (Exception ignored) {}
+                commandCache.add(dummy);
             }
 
-            this.verifySubCommandHierarchy();
-        } catch (IOException exception) {
-            plugin.getLogger().log(Level.SEVERE, "Package scanning failed", exception);
+            verifyNodeRecursive(label, node);
         }
     }
 
-    public void registerCommand(Command command, Method method, Object instance) {
-        validateCommandMetadata(command, method);
+    /**
+     * Runs the given changes as a single transaction. The tree is verified,
+     * synchronized with Bukkit and published once after all changes. If the
+     * changes throw, the registry is restored to its state before this batch
+     * and nothing is published.
+     * <p>
+     * The changes run while holding the lock of this registry, so they must
+     * not wait for other threads that register or update commands.
+     *
+     * @param changes the registrations, updates and unregistrations to apply
+     */
+    public synchronized void batch(@NotNull Runnable changes) {
+        // Bukkit is only touched in commit, so the state below is all a batch can change before it.
+        var snapshot = new BatchSnapshot(copyTree(commandTree), copyTree(completionTree), new LinkedHashSet<>(commandCache),
+            new LinkedHashSet<>(subCommandCache), warmUpQueue.size(), commitPending);
 
-        innerRegister(command.name(), command, method, instance);
+        batchDepth++;
 
-        for (String alias : command.aliases()) {
-            innerRegister(alias, Utils.createDummy(command, alias), method, instance);
+        try {
+            changes.run();
+        } catch (Throwable throwable) {
+            batchDepth--;
+            this.rollback(snapshot);
+            throw throwable;
+        }
+
+        if (--batchDepth == 0 && commitPending) {
+            this.commit();
         }
     }
 
-    private void innerRegister(String name, Command command, Method method, Object instance) {
-        String[] parts = name.split("\\.");
-        CommandNode<Command> node = commandTree.computeIfAbsent(parts[0], k -> new CommandNode<>());
+    private void rollback(BatchSnapshot snapshot) {
+        commandTree.clear();
+        commandTree.putAll(snapshot.commandTree());
+        completionTree.clear();
+        completionTree.putAll(snapshot.completionTree());
 
-        for (int i = 1; i < parts.length; i++) {
-            node = node.getChildren().computeIfAbsent(parts[i], k -> new CommandNode<>());
+        commandCache.clear();
+        commandCache.addAll(snapshot.commandCache());
+        subCommandCache.clear();
+        subCommandCache.addAll(snapshot.subCommandCache());
+
+        warmUpQueue.subList(snapshot.warmUpQueueSize(), warmUpQueue.size()).clear();
+        commitPending = snapshot.commitPending();
+    }
+
+    private static <T extends Annotation> Map<String, CommandNode<T>> copyTree(Map<String, CommandNode<T>> tree) {
+        Map<String, CommandNode<T>> copy = new HashMap<>(tree.size());
+        tree.forEach((label, node) -> copy.put(label, node.copy()));
+        return copy;
+    }
+
+    private record BatchSnapshot(
+        Map<String, CommandNode<Command>> commandTree,
+        Map<String, CommandNode<Completer>> completionTree,
+        Set<Command> commandCache,
+        Set<Command> subCommandCache,
+        int warmUpQueueSize,
+        boolean commitPending
+    ) {
+    }
+
+    private void commit() {
+        if (batchDepth > 0) {
+            commitPending = true;
+            return;
         }
 
-        try {
-            MethodHandle handle = method != null ? MethodHandles.lookup().unreflect(method) : null;
-            node.setMember(new RegisteredMember<>(instance, method, handle, command));
+        commitPending = false;
 
-            if (parts.length == 1) {
-                commandCache.add(command);
-                return;
-            }
+        this.verifySubCommandHierarchy();
+        this.syncBukkitCommands();
+        this.publish();
+        this.warmUp();
+    }
 
-            subCommandCache.add(command);
-        } catch (Exception exception) {
-            CommandFramework.getInstance().getLogger().log(Level.SEVERE, "Trie insertion failed: " + name, exception);
+    /**
+     * Dry-runs the dispatch path of the members registered since the last commit
+     * against the published tries, on a background thread if configured so.
+     */
+    private void warmUp() {
+        if (warmUpQueue.isEmpty()) {
+            return;
+        }
+
+        var framework = CommandFramework.getInstance();
+        var warmUp = new CommandWarmUp(commandTrie, completionTrie,
+            List.copyOf(warmUpQueue), framework.getLogger());
+
+        warmUpQueue.clear();
+
+        if (framework.options().isWarmUpAsync()) {
+            Thread.ofPlatform().daemon().name("CommandFramework-WarmUp").start(warmUp);
+        } else {
+            warmUp.run();
         }
     }
 
-    private void verifySubCommandHierarchy() {
+    /**
+     * Applies the difference between the root commands of the tree and the
+     * commands registered to Bukkit, then resends the command list to the
+     * online players if anything changed.
+     */
+    private void syncBukkitCommands() {
+        boolean changed = false;
+        Plugin plugin = CommandFramework.getInstance().getPlugin();
+
+        for (var iterator = syncedRoots.entrySet().iterator(); iterator.hasNext(); ) {
+            String label = iterator.next().getKey();
+
+            if (!commandTree.containsKey(label)) {
+                unregisterBukkitCommand(label);
+                iterator.remove();
+                changed = true;
+            }
+        }
+
         for (Map.Entry<String, CommandNode<Command>> entry : commandTree.entrySet()) {
             String label = entry.getKey();
-            CommandNode<Command> node = entry.getValue();
+            RegisteredMember<Command> member = entry.getValue().getMember();
 
-            if (node.getMember() != null) {
-                registerToBukkitSafely(node.getMember().annotation(), label);
-            } else if (!node.getChildren().isEmpty()) {
-                Command dummy = Utils.createDummy(label);
-                node.setMember(new RegisteredMember<>(new Object(), null, null, dummy));
+            if (member == null) {
+                continue;
+            }
 
-                registerToBukkitSafely(dummy, label);
+            Command command = member.annotation();
+            Command synced = syncedRoots.get(label);
 
-                commandCache.add(dummy);
+            if (synced != null && isSameBukkitCommand(synced, command)) {
+                continue;
             }
 
-            verifyNodeRecursive(label, node);
+            PluginCommand pluginCommand = Bukkit.getPluginCommand(label);
+
+            // The fallback prefix is part of the registration, only the other properties can be updated in place.
+            if (synced != null && pluginCommand != null && pluginCommand.getPlugin().equals(plugin)
+                && synced.fallbackPrefix().equals(command.fallbackPrefix())) {
+                pluginCommand.setUsage(command.usage());
+                pluginCommand.setPermission(command.permission().isEmpty() ? null : command.permission());
+                pluginCommand.setDescription(command.desc());
+            } else {
+                if (synced != null) {
+                    unregisterBukkitCommand(label);
+                }
+
+                registerToBukkitSafely(command, label);
+            }
+
+            syncedRoots.put(label, command);
+            changed = true;
+        }
+
+        if (changed) {
+            updatePlayerCommands();
+        }
+    }
+
+    private boolean isSameBukkitCommand(Command first, Command second) {
+        return first.usage().equals(second.usage()) &&
+            first.permission().equals(second.permission()) &&
+            first.desc().equals(second.desc()) &&
+            first.fallbackPrefix().equals(second.fallbackPrefix());
+    }
+
+    private void updatePlayerCommands() {
+        try {
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                player.updateCommands();
+            }
+        } catch (UnsupportedOperationException ignored) {
+            // The server implementation does not support resending the command list.
         }
     }
 
@@ -241,57 +393,29 @@ public final class CommandRegistry {
         }
     }
 
-    private void registerCompleter(Object instance, Method method) {
-        if (!List.class.isAssignableFrom(method.getReturnType())) return;
-
-        Completer completer = method.getAnnotation(Completer.class);
-        validateCompleterMetadata(completer, method);
-        innerRegisterCompleter(completer.name(), completer, method, instance);
-
-        for (String alias : completer.aliases()) {
-            innerRegisterCompleter(alias, completer, method, instance);
-        }
-    }
-
-    private void innerRegisterCompleter(String name, Completer completer, Method method, Object instance) {
+    private void innerRegisterCompleter(String name, RegisteredMember<Completer> member) {
         String[] parts = name.split("\\.");
         CommandNode<Completer> node = completionTree.computeIfAbsent(parts[0], k -> new CommandNode<>());
 
         for (int i = 1; i < parts.length; i++) {
-            node = node.getChildren().computeIfAbsent(parts[i], k -> new CommandNode<>());
+            node = node.getOrCreateChild(parts[i]);
         }
 
-        try {
-            MethodHandle handle = MethodHandles.lookup().unreflect(method);
-            node.setMember(new RegisteredMember<>(instance, method, handle, completer));
-        } catch (IllegalAccessException exception) {
-            CommandFramework.getInstance().getLogger().log(Level.SEVERE, "Failed to register completer: " + name, exception);
-        }
+        node.setMember(member);
     }
 
-    public void unregisterCommand(@NotNull String commandName) {
+    public synchronized void unregisterCommand(@NotNull String commandName) {
         String rootLabel = commandName.split("\\.")[0];
 
         if (!commandTree.containsKey(rootLabel)) return;
 
-        try {
-            PluginCommand command = Bukkit.getPluginCommand(rootLabel);
-
-            if (command != null && command.getPlugin().equals(CommandFramework.getInstance().getPlugin())) {
-                command.unregister(commandMap);
-
-                var knownCommands = (Map<String, org.bukkit.command.Command>) KNOWN_COMMANDS_FIELD.get(commandMap);
-                knownCommands.remove(rootLabel);
-            }
+        commandCache.removeIf(cmd -> cmd.name().equalsIgnoreCase(rootLabel));
+        subCommandCache.removeIf(cmd -> cmd.name().startsWith(rootLabel + "."));
 
-            commandCache.removeIf(cmd -> cmd.name().equalsIgnoreCase(rootLabel));
-            subCommandCache.removeIf(cmd -> cmd.name().startsWith(rootLabel + "."));
+        commandTree.remove(rootLabel);
+        completionTree.remove(rootLabel);
 
-            commandTree.remove(rootLabel);
-            completionTree.remove(rootLabel);
-        } catch (Exception e) {
-            CommandFramework.getInstance().getLogger().log(Level.SEVERE, "Error unregistering: " + rootLabel, e);
-        }
+        this.commit();
     }
 
     private void verifyNodeRecursive(String label, CommandNode<Command> node) {
@@ -301,7 +425,7 @@ public final class CommandRegistry {
             var value = child.getValue();
 
             if (value.getMember() == null && !value.getChildren().isEmpty()) {
-                Command dummy = Utils.createDummy(childLabel);
+                Command dummy = CommandMetadata.empty(childLabel);
                 value.setMember(RegisteredMember.dummyCommand(dummy));
 
                 subCommandCache.add(dummy);
@@ -311,12 +435,12 @@ public final class CommandRegistry {
         }
     }
 
-    public void unregisterCommands() {
-        new HashSet<>(commandTree.keySet()).forEach(this::unregisterCommand);
+    public synchronized void unregisterCommands() {
+        this.batch(() -> new HashSet<>(commandTree.keySet()).forEach(this::unregisterCommand));
     }
 
     @NotNull
-    public List<Command> getDirectChildCommands(@NotNull String commandName) {
+    public synchronized List<Command> getDirectChildCommands(@NotNull String commandName) {
         CommandNode<Command> node = findCommandNode(normalizeCommandPath(commandName));
 
         if (node == null || node.getChildren().isEmpty()) {
@@ -332,7 +456,7 @@ public final class CommandRegistry {
             .toList();
     }
 
-    public boolean updateCommandAttributes(
+    public synchronized boolean updateCommandAttributes(
         @NotNull String commandName,
         @NotNull Consumer<CommandAttributes.Builder> updater
     ) {
@@ -350,7 +474,7 @@ public final class CommandRegistry {
         return setCommandAttributes(commandName, builder.build());
     }
 
-    public boolean setCommandAttributes(@NotNull String commandName, @NotNull CommandAttributes attributes) {
+    public synchronized boolean setCommandAttributes(@NotNull String commandName, @NotNull CommandAttributes attributes) {
         String currentName = normalizeCommandPath(commandName);
         Objects.requireNonNull(attributes, "attributes");
 
@@ -375,33 +499,36 @@ public final class CommandRegistry {
             ensureCompletionPathAvailable(currentName, newName);
         }
 
-        removeAliases(originalCommand, originalMember);
+        try {
+            removeAliases(originalCommand, originalMember);
 
-        if (!currentName.equals(newName)) {
-            detachCommandNode(currentName);
-            insertCommandNode(newName, node);
-            replaceCommandPrefix(node, currentName, newName);
-            moveCompletionNode(currentName, newName);
-        }
+            if (!currentName.equals(newName)) {
+                detachCommandNode(currentName);
+                insertCommandNode(newName, node);
+                replaceCommandPrefix(node, currentName, newName);
+                moveCompletionNode(currentName, newName);
+            }
 
-        CommandNode<Command> updatedNode = findCommandNode(newName);
-        replaceCommand(updatedNode, newCommand);
-        ensureParentCommands(newName);
-        syncRootCommand(newName);
+            CommandNode<Command> updatedNode = findCommandNode(newName);
+            replaceCommand(updatedNode, newCommand);
+            ensureParentCommands(newName);
 
-        RegisteredMember<Command> updatedMember = updatedNode.getMember();
-        registerAliases(newCommand, updatedMember);
+            RegisteredMember<Command> updatedMember = updatedNode.getMember();
+            registerAliases(newCommand, updatedMember);
+        } finally {
+            this.commit();
+        }
 
         return true;
     }
 
     @NotNull
-    public Set<Command> getCommands() {
+    public synchronized Set<Command> getCommands() {
         return Set.copyOf(commandCache);
     }
 
     @NotNull
-    public Set<Command> getSubCommands() {
+    public synchronized Set<Command> getSubCommands() {
         return Set.copyOf(subCommandCache);
     }
 
@@ -410,10 +537,25 @@ public final class CommandRegistry {
         return commandMatcher;
     }
 
-    public void setCommandMap(CommandMap commandMap) {
+    @NotNull
+    public CommandCache getCommandCache() {
+        return matchCache;
+    }
+
+    public synchronized void setCommandMap(CommandMap commandMap) {
+        if (this.commandMap != commandMap) {
+            syncedRoots.clear();
+        }
+
         this.commandMap = commandMap;
     }
 
+    private void publish() {
+        this.commandTrie = CommandTrie.snapshot(commandTree);
+        this.completionTrie = CommandTrie.snapshot(completionTree);
+        this.matchCache.clear();
+    }
+
     private void replaceCommandPrefix(CommandNode<Command> node, String oldPrefix, String newPrefix) {
         RegisteredMember<Command> member = node.getMember();
 
@@ -436,30 +578,6 @@ public final class CommandRegistry {
         }
     }
 
-    private void validateCommandMetadata(Command command, Method method) {
-        try {
-            String normalizedName = CommandNameValidator.normalizeName(command.name(), "name");
-            CommandNameValidator.normalizeAliases(command.aliases(), normalizedName);
-        } catch (IllegalArgumentException exception) {
-            throw new CommandException(
-                "Invalid @Command metadata in method ''{0}#{1}'': {2}",
-                method.getDeclaringClass().getSimpleName(), method.getName(), exception.getMessage()
-            );
-        }
-    }
-
-    private void validateCompleterMetadata(Completer completer, Method method) {
-        try {
-            String normalizedName = CommandNameValidator.normalizeName(completer.name(), "name");
-            CommandNameValidator.normalizeAliases(completer.aliases(), normalizedName);
-        } catch (IllegalArgumentException exception) {
-            throw new CommandException(
-                "Invalid @Completer metadata in method ''{0}#{1}'': {2}",
-                method.getDeclaringClass().getSimpleName(), method.getName(), exception.getMessage()
-            );
-        }
-    }
-
     private void replaceCommand(CommandNode<Command> node, Command command) {
         RegisteredMember<Command> member = node.getMember();
 
@@ -475,14 +593,13 @@ public final class CommandRegistry {
 
     private void registerAliases(Command command, RegisteredMember<Command> sourceMember) {
         for (String alias : command.aliases()) {
-            Command aliasCommand = Utils.createDummy(command, alias);
+            Command aliasCommand = CommandMetadata.rename(command, alias);
             CommandNode<Command> aliasNode = new CommandNode<>();
             aliasNode.setMember(sourceMember.withAnnotation(aliasCommand));
 
             insertCommandNode(alias, aliasNode);
             addToCache(aliasCommand);
             ensureParentCommands(alias);
-            syncRootCommand(alias);
         }
     }
 
@@ -598,10 +715,9 @@ public final class CommandRegistry {
 
         if (parts.length == 1) {
             removed = commandTree.remove(parts[0]);
-            unregisterBukkitCommand(parts[0]);
         } else {
             CommandNode<Command> parent = findCommandNode(String.join(".", Arrays.copyOf(parts, parts.length - 1)));
-            removed = parent == null ? null : parent.getChildren().remove(parts[parts.length - 1]);
+            removed = parent == null ? null : parent.removeChild(parts[parts.length - 1]);
         }
 
         removeEmptyDummyParents(parts);
@@ -619,10 +735,10 @@ public final class CommandRegistry {
         CommandNode<Command> parent = commandTree.computeIfAbsent(parts[0], key -> new CommandNode<>());
 
         for (int i = 1; i < parts.length - 1; i++) {
-            parent = parent.getChildren().computeIfAbsent(parts[i], key -> new CommandNode<>());
+            parent = parent.getOrCreateChild(parts[i]);
         }
 
-        parent.getChildren().put(parts[parts.length - 1], node);
+        parent.putChild(parts[parts.length - 1], node);
     }
 
     private void ensureParentCommands(String commandName) {
@@ -637,13 +753,9 @@ public final class CommandRegistry {
 
         for (int i = 0; i < parts.length - 1; i++) {
             if (node.getMember() == null) {
-                Command dummy = Utils.createDummy(path.toString());
+                Command dummy = CommandMetadata.empty(path.toString());
                 node.setMember(RegisteredMember.dummyCommand(dummy));
                 addToCache(dummy);
-
-                if (i == 0) {
-                    registerToBukkitSafely(dummy, path.toString());
-                }
             }
 
             if (i + 1 < parts.length - 1) {
@@ -702,35 +814,6 @@ public final class CommandRegistry {
         subCommandCache.remove(command);
     }
 
-    private void syncRootCommand(String commandName) {
-        if (commandName.contains(".")) {
-            return;
-        }
-
-        CommandNode<Command> node = findCommandNode(commandName);
-
-        if (node == null || node.getMember() == null) {
-            return;
-        }
-
-        PluginCommand pluginCommand = Bukkit.getPluginCommand(commandName);
-
-        if (pluginCommand == null) {
-            registerToBukkitSafely(node.getMember().annotation(), commandName);
-            return;
-        }
-
-        if (!pluginCommand.getPlugin().equals(CommandFramework.getInstance().getPlugin())) {
-            throw new CommandException("Cannot update Bukkit command ''{0}'' because it belongs to another plugin!",
-                commandName);
-        }
-
-        Command command = node.getMember().annotation();
-        pluginCommand.setUsage(command.usage());
-        pluginCommand.setPermission(command.permission().isEmpty() ? null : command.permission());
-        pluginCommand.setDescription(command.desc());
-    }
-
     private void unregisterBukkitCommand(String label) {
         try {
             PluginCommand command = Bukkit.getPluginCommand(label);
@@ -742,7 +825,7 @@ public final class CommandRegistry {
             command.unregister(commandMap);
 
             var knownCommands = (Map<String, org.bukkit.command.Command>) KNOWN_COMMANDS_FIELD.get(commandMap);
-            knownCommands.remove(label);
+            knownCommands.values().removeIf(known -> known == command);
         } catch (Exception exception) {
             CommandFramework.getInstance().getLogger().log(Level.SEVERE, "Error unregistering: " + label, exception);
         }
@@ -767,7 +850,7 @@ public final class CommandRegistry {
         }
 
         CommandNode<T> parent = findNode(tree, String.join(".", Arrays.copyOf(parts, parts.length - 1)));
-        return parent == null ? null : parent.getChildren().remove(parts[parts.length - 1]);
+        return parent == null ? null : parent.removeChild(parts[parts.length - 1]);
     }
 
     private <T extends Annotation> void insertNode(Map<String, CommandNode<T>> tree, String commandName, CommandNode<T> node) {
@@ -781,10 +864,10 @@ public final class CommandRegistry {
         CommandNode<T> parent = tree.computeIfAbsent(parts[0], key -> new CommandNode<>());
 
         for (int i = 1; i < parts.length - 1; i++) {
-            parent = parent.getChildren().computeIfAbsent(parts[i], key -> new CommandNode<>());
+            parent = parent.getOrCreateChild(parts[i]);
         }
 
-        parent.getChildren().put(parts[parts.length - 1], node);
+        parent.putChild(parts[parts.length - 1], node);
     }
 
     private String normalizeCommandPath(String commandName) {
@@ -806,38 +889,34 @@ public final class CommandRegistry {
 
         @Nullable
         public RegisteredMember<Command> getMatch(@NotNull String label, @NotNull String[] args) {
-            return findInTree(commandTree, label, args);
-        }
-
+            return commandTrie.find(label, args);
+        }
+
+        /**
+         * Finds the command for the given command line in the command cache, or matches
+         * it and adds it to the cache.
+         *
+         * @param label the name of the root command
+         * @param args the arguments of the command line
+         * @return the cached match, or {@code null} if there is no such command
+         * @see dev.despical.commandframework.options.FrameworkOption#COMMAND_CACHE
+         */
         @Nullable
-        public RegisteredMember<Completer> getCompleterMatch(@NotNull String label, @NotNull String[] args) {
-            return findInTree(completionTree, label, args);
-        }
-
-        private <T extends Annotation> RegisteredMember<T> findInTree(
-            @NotNull Map<String, CommandNode<T>> tree,
-            @NotNull String label,
-            @NotNull String[] args
-        ) {
-            CommandNode<T> node = tree.get(label);
+        public CommandCache.Entry getCachedMatch(@NotNull String label, @NotNull String[] args) {
+            CommandTrie<Command> trie = commandTrie;
+            CommandCache.Entry entry = matchCache.get(label, args, trie);
 
-            if (node == null) return null;
-
-            var lastMatch = node.getMember();
-
-            for (String arg : args) {
-                node = node.getChildren().get(arg);
-
-                if (node == null) {
-                    break;
-                }
-
-                if (node.getMember() != null) {
-                    lastMatch = node.getMember();
-                }
+            if (entry != null) {
+                return entry;
             }
 
-            return lastMatch;
+            RegisteredMember<Command> member = trie.find(label, args);
+            return member != null ? matchCache.put(label, args, trie, member) : null;
+        }
+
+        @Nullable
+        public RegisteredMember<Completer> getCompleterMatch(@NotNull String label, @NotNull String[] args) {
+            return completionTrie.find(label, args);
         }
     }
 
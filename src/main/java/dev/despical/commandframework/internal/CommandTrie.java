@@ -0,0 +1,162 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable snapshot of a command tree.
+ * <p>
+ * The registry mutates its {@link CommandNode} tree and publishes a new
+ * snapshot after every change, so lookups never see a half updated tree
+ * and do not need any locking.
+ * <p>
+ * Nodes are stored compactly since most of them have only a few children:
+ * leaves share an empty sentinel, small fan-outs use sorted arrays and only
+ * nodes with many children use a hash table.
+ *
+ * @param <T> The annotation type (Command or Completer)
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+public final class CommandTrie<T extends Annotation> {
+
+    static final int HASH_THRESHOLD = 8;
+
+    private static final String[] NO_KEYS = new String[0];
+    private static final Node<?>[] NO_NODES = new Node<?>[0];
+    private static final CommandTrie<?> EMPTY = new CommandTrie<>(freeze(null, Map.of()));
+
+    private final Node<T> root;
+
+    private CommandTrie(Node<T> root) {
+        this.root = root;
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public static <T extends Annotation> CommandTrie<T> empty() {
+        return (CommandTrie<T>) EMPTY;
+    }
+
+    @NotNull
+    public static <T extends Annotation> CommandTrie<T> snapshot(@NotNull Map<String, CommandNode<T>> tree) {
+        return tree.isEmpty() ? empty() : new CommandTrie<>(freeze(null, tree));
+    }
+
+    /**
+     * Finds the deepest member that matches the given label and arguments.
+     *
+     * @param label the root label
+     * @param args the arguments following the label
+     * @return the matched member, or {@code null} if the label is unknown
+     */
+    @Nullable
+    public RegisteredMember<T> find(@NotNull String label, @NotNull String[] args) {
+        Node<T> node = root.child(label);
+
+        if (node == null) return null;
+
+        var lastMatch = node.member;
+
+        for (String arg : args) {
+            node = node.child(arg);
+
+            if (node == null) {
+                break;
+            }
+
+            if (node.member != null) {
+                lastMatch = node.member;
+            }
+        }
+
+        return lastMatch;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Annotation> Node<T> freeze(RegisteredMember<T> member, Map<String, CommandNode<T>> children) {
+        int size = children.size();
+
+        if (size == 0) {
+            return new Node<>(member, NO_KEYS, (Node<T>[]) NO_NODES, null);
+        }
+
+        if (size >= HASH_THRESHOLD) {
+            Map<String, Node<T>> table = new HashMap<>(size * 4 / 3 + 1);
+
+            for (var entry : children.entrySet()) {
+                CommandNode<T> child = entry.getValue();
+                table.put(entry.getKey(), freeze(child.getMember(), child.getChildren()));
+            }
+
+            return new Node<>(member, null, null, table);
+        }
+
+        String[] keys = children.keySet().toArray(String[]::new);
+        Arrays.sort(keys);
+
+        Node<T>[] nodes = (Node<T>[]) new Node<?>[size];
+
+        for (int i = 0; i < size; i++) {
+            CommandNode<T> child = children.get(keys[i]);
+            nodes[i] = freeze(child.getMember(), child.getChildren());
+        }
+
+        return new Node<>(member, keys, nodes, null);
+    }
+
+    private static final class Node<T extends Annotation> {
+
+        private final RegisteredMember<T> member;
+
+        // Either the sorted keys with their nodes, or the table for large fan-outs.
+        private final String[] keys;
+        private final Node<T>[] nodes;
+        private final Map<String, Node<T>> table;
+
+        private Node(RegisteredMember<T> member, String[] keys, Node<T>[] nodes, Map<String, Node<T>> table) {
+            this.member = member;
+            this.keys = keys;
+            this.nodes = nodes;
+            this.table = table;
+        }
+
+        private Node<T> child(String name) {
+            if (table != null) {
+                return table.get(name);
+            }
+
+            if (keys.length == 0) {
+                return null;
+            }
+
+            int index = Arrays.binarySearch(keys, name);
+            return index < 0 ? null : nodes[index];
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import dev.despical.commandframework.CommandArguments;
+import dev.despical.commandframework.CompleterHelper;
+import dev.despical.commandframework.SenderClass;
+import dev.despical.commandframework.annotations.Command;
+import dev.despical.commandframework.annotations.Completer;
+import org.bukkit.command.BlockCommandSender;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.command.ProxiedCommandSender;
+import org.bukkit.command.RemoteConsoleCommandSender;
+import org.bukkit.entity.Player;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Runs a dry dispatch of the registered members so that the class initialization,
+ * lambda linkage and first-call costs of the dispatch path are paid at startup
+ * instead of on the first execution of each command.
+ * <p>
+ * Every member is matched through the published trie and goes through the
+ * preconditions, cooldown and confirmation lookups specialized for each
+ * {@link SenderClass}, using a sender that only answers with default values.
+ * The resolvers bound by the framework itself, i.e. the command arguments and
+ * {@link CompleterHelper}, are resolved and the options are parsed. The dispatch
+ * stops before anything provided by the user is called: parameter providers and
+ * the methods are not invoked, so no instance is created for lazily instantiated
+ * members either.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+final class CommandWarmUp implements Runnable {
+
+    private static final String[] NO_ARGUMENTS = new String[0];
+    // In the order of SenderClass, so the senders can be looked up by ordinal.
+    private static final CommandSender[] SENDERS = {
+        senderOf(Player.class),
+        senderOf(ConsoleCommandSender.class),
+        senderOf(RemoteConsoleCommandSender.class),
+        senderOf(BlockCommandSender.class),
+        senderOf(ProxiedCommandSender.class),
+        senderOf(CommandSender.class)
+    };
+
+    private final CommandTrie<Command> commandTrie;
+    private final CommandTrie<Completer> completionTrie;
+    private final List<RegisteredMember<?>> members;
+    private final Logger logger;
+
+    CommandWarmUp(
+        CommandTrie<Command> commandTrie,
+        CommandTrie<Completer> completionTrie,
+        List<RegisteredMember<?>> members,
+        Logger logger
+    ) {
+        this.commandTrie = commandTrie;
+        this.completionTrie = completionTrie;
+        this.members = members;
+        this.logger = logger;
+    }
+
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        int warmed = 0;
+
+        for (RegisteredMember<?> member : members) {
+            try {
+                if (warmUp(member)) {
+                    warmed++;
+                }
+            } catch (Exception exception) {
+                logger.log(Level.WARNING, "Could not warm up " + pathOf(member.annotation()), exception);
+            }
+        }
+
+        double elapsed = (System.nanoTime() - start) / 1_000_000D;
+        logger.info("Warmed up %d of %d commands and completers in %.2f ms.".formatted(warmed, members.size(), elapsed));
+    }
+
+    private boolean warmUp(RegisteredMember<?> member) throws Exception {
+        if (member.method() == null) {
+            return false;
+        }
+
+        Annotation annotation = member.annotation();
+        String[] parts = pathOf(annotation).split("\\.");
+        String[] pathArguments = Arrays.copyOfRange(parts, 1, parts.length);
+        RegisteredMember<?> matched = annotation instanceof Command
+            ? commandTrie.find(parts[0], pathArguments)
+            : completionTrie.find(parts[0], pathArguments);
+
+        // Replaced or removed by a later registration, the new member is warmed up on its own.
+        if (matched == null || !member.method().equals(matched.method())) {
+            return false;
+        }
+
+        InvocationPlan plan = matched.plan();
+        Command command = annotation instanceof Command matchedCommand ? matchedCommand : null;
+
+        for (SenderClass senderClass : SenderClass.values()) {
+            CommandSender sender = SENDERS[senderClass.ordinal()];
+
+            for (InvocationPlan.Precondition precondition : plan.preconditions(senderClass)) {
+                precondition.passes(sender, 0);
+            }
+
+            if (command != null) {
+                plan.cooldown(senderClass);
+                plan.confirmation(senderClass);
+            }
+
+            CommandArguments arguments = new CommandArguments(sender, null, command, parts[0], pathArguments,
+                plan.argumentOffset(), 0);
+
+            resolveFrameworkParameters(plan, arguments);
+        }
+
+        if (plan.hasOptions()) {
+            plan.optionSchema().parse(NO_ARGUMENTS, 0, 0);
+        }
+
+        return true;
+    }
+
+    private static void resolveFrameworkParameters(InvocationPlan plan, CommandArguments arguments) throws Exception {
+        ParameterBinding[] bindings = plan.parameters();
+        ParameterResolver[] resolvers = plan.resolvers();
+
+        for (int i = 0; i < resolvers.length; i++) {
+            ParameterBinding binding = bindings[i];
+            boolean frameworkArguments = binding.arguments() && binding.type().isInstance(arguments);
+            boolean completerHelper = !binding.qualified() && binding.type() == CompleterHelper.class;
+
+            if (frameworkArguments || completerHelper) {
+                resolvers[i].resolve(arguments);
+            }
+        }
+    }
+
+    private static String pathOf(Annotation annotation) {
+        return annotation instanceof Command command ? command.name() : ((Completer) annotation).name();
+    }
+
+    private static CommandSender senderOf(Class<? extends CommandSender> type) {
+        return (CommandSender) Proxy.newProxyInstance(CommandWarmUp.class.getClassLoader(), new Class<?>[] {type}, CommandWarmUp::answer);
+    }
+
+    private static Object answer(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "getName" -> "CommandFramework";
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "toString" -> "CommandFramework warm-up sender";
+            default -> defaultValue(method.getReturnType());
+        };
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+
+        return Array.get(Array.newInstance(type, 1), 0);
+    }
+}
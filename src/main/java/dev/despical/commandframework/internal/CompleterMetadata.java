@@ -0,0 +1,96 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import dev.despical.commandframework.annotations.Completer;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.StringJoiner;
+
+/**
+ * Plain snapshot of a {@link Completer} annotation, captured once at registration.
+ * Follows the {@link Annotation} equality contract like {@link CommandMetadata},
+ * the aliases are compared by their contents.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@SuppressWarnings("ClassExplicitlyAnnotation")
+public record CompleterMetadata(
+    @NotNull String name,
+    @NotNull String permission,
+    @NotNull String[] aliases
+) implements Completer {
+
+    public CompleterMetadata {
+        aliases = aliases.clone();
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    public static CompleterMetadata of(@NotNull Completer completer) {
+        if (completer instanceof CompleterMetadata metadata) {
+            return metadata;
+        }
+
+        return new CompleterMetadata(completer.name(), completer.permission(), completer.aliases());
+    }
+
+    @Override
+    public String[] aliases() {
+        return aliases.clone();
+    }
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+        return Completer.class;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof Completer completer)) return false;
+
+        return name.equals(completer.name()) &&
+            permission.equals(completer.permission()) &&
+            Arrays.equals(aliases, completer.aliases());
+    }
+
+    @Override
+    public int hashCode() {
+        return CommandMetadata.member("name", name.hashCode()) +
+            CommandMetadata.member("permission", permission.hashCode()) +
+            CommandMetadata.member("aliases", Arrays.hashCode(aliases));
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+
+        for (String alias : aliases) {
+            joiner.add("\"" + alias + "\"");
+        }
+
+        return "@%s(name=\"%s\", permission=\"%s\", aliases=%s)".formatted(Completer.class.getName(), name, permission, joiner);
+    }
+}
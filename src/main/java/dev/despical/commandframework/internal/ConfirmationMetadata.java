@@ -0,0 +1,93 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import dev.despical.commandframework.annotations.Confirmation;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plain snapshot of a {@link Confirmation} annotation, captured once at registration.
+ * Follows the {@link Annotation} equality contract like {@link CommandMetadata}.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@SuppressWarnings("ClassExplicitlyAnnotation")
+public record ConfirmationMetadata(
+    @NotNull String message,
+    @NotNull String bypassPerm,
+    int expireAfter,
+    @NotNull TimeUnit timeUnit,
+    boolean overrideConsole
+) implements Confirmation {
+
+    @Nullable
+    @Contract("null -> null; !null -> !null")
+    public static ConfirmationMetadata of(@Nullable Confirmation confirmation) {
+        if (confirmation == null || confirmation instanceof ConfirmationMetadata) {
+            return (ConfirmationMetadata) confirmation;
+        }
+
+        return new ConfirmationMetadata(
+            confirmation.message(),
+            confirmation.bypassPerm(),
+            confirmation.expireAfter(),
+            confirmation.timeUnit(),
+            confirmation.overrideConsole()
+        );
+    }
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+        return Confirmation.class;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof Confirmation confirmation)) return false;
+
+        return expireAfter == confirmation.expireAfter() &&
+            overrideConsole == confirmation.overrideConsole() &&
+            timeUnit == confirmation.timeUnit() &&
+            message.equals(confirmation.message()) &&
+            bypassPerm.equals(confirmation.bypassPerm());
+    }
+
+    @Override
+    public int hashCode() {
+        return CommandMetadata.member("message", message.hashCode()) +
+            CommandMetadata.member("bypassPerm", bypassPerm.hashCode()) +
+            CommandMetadata.member("expireAfter", Integer.hashCode(expireAfter)) +
+            CommandMetadata.member("timeUnit", timeUnit.hashCode()) +
+            CommandMetadata.member("overrideConsole", Boolean.hashCode(overrideConsole));
+    }
+
+    @Override
+    public String toString() {
+        return "@%s(message=\"%s\", bypassPerm=\"%s\", expireAfter=%d, timeUnit=%s, overrideConsole=%b)"
+            .formatted(Confirmation.class.getName(), message, bypassPerm, expireAfter, timeUnit, overrideConsole);
+    }
+}
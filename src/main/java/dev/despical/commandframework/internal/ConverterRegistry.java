@@ -0,0 +1,236 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import com.google.common.primitives.Primitives;
+import dev.despical.commandframework.exceptions.CommandException;
+import dev.despical.commandframework.parser.ValueParser;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Converts string values, such as {@link dev.despical.commandframework.annotations.Default @Default}
+ * and {@link dev.despical.commandframework.annotations.Option @Option} values, into typed values.
+ * <p>
+ * Besides the converters registered by the user, strings, enums, primitives and their
+ * wrappers, durations in the format of {@link ValueParser#parseDuration(CharSequence)},
+ * and every type with a public static {@code valueOf(String)} method are supported.
+ * Numbers and booleans are parsed with {@link ValueParser}, so they accept the same
+ * input as the typed argument getters and invalid input does not throw. The
+ * {@code valueOf} methods are looked up once per type.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@ApiStatus.Internal
+public final class ConverterRegistry {
+
+    /**
+     * Returned by {@link Converter#convert(String)} for values that can not be converted.
+     */
+    public static final Object INVALID = new Object();
+
+    private final Map<Class<?>, Function<String, ?>> registered = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<Converter>> builtIn = new ConcurrentHashMap<>();
+
+    public <T> void register(@NotNull Class<T> type, @NotNull Function<String, T> converter) {
+        if (registered.putIfAbsent(Primitives.wrap(type), converter) != null) {
+            throw new CommandException("Cannot register value converter for ''{0}'' because it is already registered!", type.getName());
+        }
+    }
+
+    /**
+     * Finds the converter of the given type, primitives share the converter of
+     * their wrapper type.
+     *
+     * @param type the type to convert to
+     * @return the converter, or {@code null} if the type is not supported
+     */
+    @Nullable
+    public Converter find(@NotNull Class<?> type) {
+        Class<?> wrapped = Primitives.wrap(type);
+        Function<String, ?> custom = registered.get(wrapped);
+
+        if (custom != null) {
+            return new Converter(value -> convertOrInvalid(custom, value), false);
+        }
+
+        return builtIn.computeIfAbsent(wrapped, ConverterRegistry::lookup).orElse(null);
+    }
+
+    private static Optional<Converter> lookup(Class<?> type) {
+        if (type == String.class) {
+            return Optional.of(new Converter(Function.identity(), true));
+        }
+
+        if (type.isEnum()) {
+            return Optional.of(new Converter(value -> enumConstant(type, value), true));
+        }
+
+        if (type == Duration.class) {
+            return Optional.of(new Converter(ConverterRegistry::duration, true));
+        }
+
+        Function<String, ?> primitive = primitive(type);
+
+        if (primitive != null) {
+            return Optional.of(new Converter(primitive, true));
+        }
+
+        try {
+            MethodHandle valueOf = MethodHandles.publicLookup().findStatic(type, "valueOf", MethodType.methodType(type, String.class));
+            return Optional.of(new Converter(value -> invoke(valueOf, value), false));
+        } catch (NoSuchMethodException | IllegalAccessException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private static Function<String, ?> primitive(Class<?> type) {
+        if (type == Integer.class) {
+            return value -> {
+                OptionalInt parsed = ValueParser.parseInt(value);
+                return parsed.isPresent() ? (Object) parsed.getAsInt() : INVALID;
+            };
+        }
+
+        if (type == Long.class) {
+            return value -> {
+                OptionalLong parsed = ValueParser.parseLong(value);
+                return parsed.isPresent() ? (Object) parsed.getAsLong() : INVALID;
+            };
+        }
+
+        if (type == Double.class) {
+            return value -> {
+                OptionalDouble parsed = ValueParser.parseDouble(value);
+                return parsed.isPresent() ? (Object) parsed.getAsDouble() : INVALID;
+            };
+        }
+
+        if (type == Float.class) {
+            return value -> {
+                OptionalDouble parsed = ValueParser.parseDouble(value);
+                return parsed.isPresent() ? (Object) (float) parsed.getAsDouble() : INVALID;
+            };
+        }
+
+        if (type == Short.class || type == Byte.class) {
+            int min = type == Short.class ? Short.MIN_VALUE : Byte.MIN_VALUE;
+            int max = type == Short.class ? Short.MAX_VALUE : Byte.MAX_VALUE;
+
+            return value -> {
+                OptionalInt parsed = ValueParser.parseInt(value);
+
+                if (parsed.isEmpty() || parsed.getAsInt() < min || parsed.getAsInt() > max) {
+                    return INVALID;
+                }
+
+                return type == Short.class ? (Object) (short) parsed.getAsInt() : (Object) (byte) parsed.getAsInt();
+            };
+        }
+
+        if (type == Boolean.class) {
+            return value -> ValueParser.parseBoolean(value).<Object>map(Function.identity()).orElse(INVALID);
+        }
+
+        if (type == Character.class) {
+            return value -> value.length() == 1 ? (Object) value.charAt(0) : INVALID;
+        }
+
+        return null;
+    }
+
+    // Exact names first, then ignoring case.
+    private static Object enumConstant(Class<?> type, String value) {
+        Object[] constants = type.getEnumConstants();
+
+        for (Object constant : constants) {
+            if (((Enum<?>) constant).name().equals(value)) {
+                return constant;
+            }
+        }
+
+        for (Object constant : constants) {
+            if (((Enum<?>) constant).name().equalsIgnoreCase(value)) {
+                return constant;
+            }
+        }
+
+        return INVALID;
+    }
+
+    private static Object duration(String value) {
+        OptionalLong millis = ValueParser.parseDuration(value);
+        return millis.isPresent() ? Duration.ofMillis(millis.getAsLong()) : INVALID;
+    }
+
+    // Only user types are expected to reject values by throwing.
+    private static Object convertOrInvalid(Function<String, ?> converter, String value) {
+        try {
+            return converter.apply(value);
+        } catch (IllegalArgumentException exception) {
+            return INVALID;
+        }
+    }
+
+    private static Object invoke(MethodHandle valueOf, String value) {
+        try {
+            return valueOf.invoke(value);
+        } catch (IllegalArgumentException exception) {
+            return INVALID;
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    /**
+     * A converter of a single type.
+     *
+     * @param function the conversion itself, returns {@link #INVALID} for invalid values
+     * @param constant whether the same value always converts to an equal, immutable result,
+     *                 so the result of a constant value can be cached
+     */
+    public record Converter(@NotNull Function<String, ?> function, boolean constant) {
+
+        /**
+         * @param value the value to convert
+         * @return the converted value, or {@link #INVALID} if the value is not valid
+         */
+        @Nullable
+        public Object convert(@NotNull String value) {
+            return function.apply(value);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import dev.despical.commandframework.annotations.Cooldown;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plain snapshot of a {@link Cooldown} annotation, captured once at registration.
+ * Follows the {@link Annotation} equality contract like {@link CommandMetadata}.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@SuppressWarnings("ClassExplicitlyAnnotation")
+public record CooldownMetadata(
+    long value,
+    @NotNull TimeUnit timeUnit,
+    @NotNull String bypassPerm,
+    boolean overrideConsole
+) implements Cooldown {
+
+    @Nullable
+    @Contract("null -> null; !null -> !null")
+    public static CooldownMetadata of(@Nullable Cooldown cooldown) {
+        if (cooldown == null || cooldown instanceof CooldownMetadata) {
+            return (CooldownMetadata) cooldown;
+        }
+
+        return new CooldownMetadata(cooldown.value(), cooldown.timeUnit(), cooldown.bypassPerm(), cooldown.overrideConsole());
+    }
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+        return Cooldown.class;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof Cooldown cooldown)) return false;
+
+        return value == cooldown.value() &&
+            overrideConsole == cooldown.overrideConsole() &&
+            timeUnit == cooldown.timeUnit() &&
+            bypassPerm.equals(cooldown.bypassPerm());
+    }
+
+    @Override
+    public int hashCode() {
+        return CommandMetadata.member("value", Long.hashCode(value)) +
+            CommandMetadata.member("timeUnit", timeUnit.hashCode()) +
+            CommandMetadata.member("bypassPerm", bypassPerm.hashCode()) +
+            CommandMetadata.member("overrideConsole", Boolean.hashCode(overrideConsole));
+    }
+
+    @Override
+    public String toString() {
+        return "@%s(value=%dL, timeUnit=%s, bypassPerm=\"%s\", overrideConsole=%b)"
+            .formatted(Cooldown.class.getName(), value, timeUnit, bypassPerm, overrideConsole);
+    }
+}
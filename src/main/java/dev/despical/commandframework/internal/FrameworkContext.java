@@ -20,14 +20,13 @@ package dev.despical.commandframework.internal;
 
 import dev.despical.commandframework.CommandFramework;
 import dev.despical.commandframework.annotations.Command;
+import dev.despical.commandframework.annotations.Confirmation;
 import dev.despical.commandframework.confirmations.ConfirmationManager;
 import dev.despical.commandframework.cooldown.CooldownManager;
 import dev.despical.commandframework.options.FrameworkOption;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.ApiStatus;
 
-import java.lang.reflect.Method;
-
 /**
  * @author Despical
  * <p>
@@ -40,6 +39,9 @@ public class FrameworkContext {
 
     private CooldownManager cooldownManager;
     private ConfirmationManager confirmationManager;
+    // Read on every asynchronous dispatch, so only their creation is locked.
+    private volatile AsyncCommandExecutor asyncExecutor;
+    private volatile MainThreadExecutor mainThreadExecutor;
 
     private final CommandRegistry registry;
 
@@ -57,14 +59,62 @@ public class FrameworkContext {
         return cooldownManager;
     }
 
-    public boolean checkConfirmation(CommandSender sender, final Command command, final Method method) {
+    public AsyncCommandExecutor getAsyncExecutor() {
+        AsyncCommandExecutor executor = this.asyncExecutor;
+
+        if (executor != null) {
+            return executor;
+        }
+
+        synchronized (this) {
+            if (this.asyncExecutor == null)
+                this.asyncExecutor = new AsyncCommandExecutor(CommandFramework.getInstance().options().getAsyncConcurrencyLimit());
+            return asyncExecutor;
+        }
+    }
+
+    public MainThreadExecutor getMainThreadExecutor() {
+        MainThreadExecutor executor = this.mainThreadExecutor;
+
+        if (executor != null) {
+            return executor;
+        }
+
+        synchronized (this) {
+            if (this.mainThreadExecutor == null)
+                this.mainThreadExecutor = new MainThreadExecutor(CommandFramework.getInstance().getPlugin());
+            return mainThreadExecutor;
+        }
+    }
+
+    /**
+     * Shuts the executor of asynchronous commands down, the next asynchronous
+     * command creates a new one.
+     *
+     * @param timeout the time to wait for the running commands in milliseconds, 0 to not wait
+     */
+    public void shutdownAsyncExecutor(long timeout) {
+        AsyncCommandExecutor executor;
+
+        synchronized (this) {
+            executor = this.asyncExecutor;
+            this.asyncExecutor = null;
+        }
+
+        // Waited outside the lock, so commands dispatched meanwhile are not blocked.
+        if (executor != null) {
+            executor.shutdown(timeout);
+        }
+    }
+
+    public boolean checkConfirmation(CommandSender sender, final Command command, final Confirmation confirmation) {
         if (!CommandFramework.getInstance().options().isEnabled(FrameworkOption.CONFIRMATIONS)) {
             return false;
         }
 
         if (this.confirmationManager == null)
             this.confirmationManager = new ConfirmationManager();
-        return confirmationManager.checkConfirmations(sender, command, method);
+        return confirmationManager.checkConfirmations(sender, command, confirmation);
     }
 
     public static FrameworkContext getInstance() {
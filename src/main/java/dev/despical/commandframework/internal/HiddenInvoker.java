@@ -0,0 +1,53 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Template of the classes generated by {@link InvokerClasses}.
+ * <p>
+ * This class is never used directly, its bytes are defined as a new hidden
+ * class for every member with the bound method handle of the member as class
+ * data. The handle is held in a static final field, so it is a constant for
+ * the JIT compiler and the call is inlined into {@link #invoke(Object[])}.
+ *
+ * @author Despical
+ * <p>
+ * Created at 17.10.2026
+ */
+final class HiddenInvoker implements MemberInvoker {
+
+    private static final MethodHandle TARGET;
+
+    static {
+        try {
+            TARGET = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+        } catch (IllegalAccessException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+
+    @Override
+    public Object invoke(Object[] parameters) throws Throwable {
+        return TARGET.invokeExact(parameters);
+    }
+}
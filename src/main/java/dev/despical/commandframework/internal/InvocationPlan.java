@@ -0,0 +1,396 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import dev.despical.commandframework.CommandErrorMessage;
+import dev.despical.commandframework.SenderClass;
+import dev.despical.commandframework.annotations.Command;
+import dev.despical.commandframework.annotations.Completer;
+import dev.despical.commandframework.annotations.Confirmation;
+import dev.despical.commandframework.annotations.Cooldown;
+import dev.despical.commandframework.annotations.Flag;
+import dev.despical.commandframework.annotations.Option;
+import dev.despical.commandframework.parser.OptionSchema;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Immutable execution data of a registered command or completer.
+ * <p>
+ * Everything in here is derived from the annotations and the method signature,
+ * so it is computed once at registration and the dispatch path does not need
+ * any reflection or string splitting.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+public final class InvocationPlan {
+
+    private static final Precondition[] NO_PRECONDITIONS = new Precondition[0];
+    private static final ParameterResolver[] NO_RESOLVERS = new ParameterResolver[0];
+    private static final SenderClass[] SENDER_CLASSES = SenderClass.values();
+
+    private final int argumentOffset;
+    private final Precondition[] preconditions;
+    private final ParameterBinding[] parameters;
+    private final ParameterResolver[] resolvers;
+    private final OptionSchema optionSchema;
+    private final CooldownMetadata cooldown;
+    private final ConfirmationMetadata confirmation;
+    private final boolean asyncParameters;
+    private final Precondition[][] senderPreconditions;
+    private final CooldownMetadata[] senderCooldowns;
+    private final ConfirmationMetadata[] senderConfirmations;
+
+    private InvocationPlan(
+        int argumentOffset,
+        Precondition[] preconditions,
+        ParameterBinding[] parameters,
+        ParameterResolver[] resolvers,
+        OptionSchema optionSchema,
+        CooldownMetadata cooldown,
+        ConfirmationMetadata confirmation
+    ) {
+        this.argumentOffset = argumentOffset;
+        this.preconditions = preconditions;
+        this.parameters = parameters;
+        this.resolvers = resolvers;
+        this.optionSchema = optionSchema;
+        this.cooldown = cooldown;
+        this.confirmation = confirmation;
+        this.asyncParameters = hasAsyncResolver(resolvers);
+        this.senderPreconditions = new Precondition[SENDER_CLASSES.length][];
+        this.senderCooldowns = new CooldownMetadata[SENDER_CLASSES.length];
+        this.senderConfirmations = new ConfirmationMetadata[SENDER_CLASSES.length];
+
+        for (SenderClass senderClass : SENDER_CLASSES) {
+            int index = senderClass.ordinal();
+
+            senderPreconditions[index] = preconditionsFor(preconditions, senderClass);
+            senderCooldowns[index] = cooldownFor(cooldown, senderClass);
+            senderConfirmations[index] = confirmationFor(confirmation, senderClass);
+        }
+    }
+
+    @NotNull
+    public static InvocationPlan forCommand(@NotNull Command command, @Nullable Method method) {
+        if (method == null) {
+            return new InvocationPlan(depthOf(command.name()), preconditionsOf(command), new ParameterBinding[0],
+                NO_RESOLVERS, OptionSchema.EMPTY, null, null);
+        }
+
+        return new InvocationPlan(
+            depthOf(command.name()),
+            preconditionsOf(command),
+            ParameterBinding.of(method),
+            NO_RESOLVERS,
+            OptionSchema.compile(method.getAnnotationsByType(Flag.class), method.getAnnotationsByType(Option.class)),
+            CooldownMetadata.of(method.getAnnotation(Cooldown.class)),
+            ConfirmationMetadata.of(method.getAnnotation(Confirmation.class))
+        );
+    }
+
+    @NotNull
+    public static InvocationPlan forCompleter(@NotNull String path, @NotNull Completer completer, @NotNull Method method) {
+        String permission = completer.permission();
+        Precondition[] preconditions = permission.isEmpty() ? NO_PRECONDITIONS : new Precondition[] {
+            new Precondition((sender, argumentCount) -> sender.hasPermission(permission), CommandErrorMessage.NO_PERMISSION, false)
+        };
+
+        return new InvocationPlan(depthOf(path), preconditions, ParameterBinding.of(method),
+            NO_RESOLVERS, OptionSchema.EMPTY, null, null);
+    }
+
+    /**
+     * Returns a copy of this plan for the given annotation, re-using the
+     * metadata that was collected from the method.
+     *
+     * @param annotation the new annotation of the member
+     * @return the updated plan
+     */
+    @NotNull
+    public InvocationPlan withAnnotation(@NotNull Annotation annotation) {
+        if (!(annotation instanceof Command command)) {
+            return this;
+        }
+
+        return new InvocationPlan(depthOf(command.name()), preconditionsOf(command), parameters,
+            resolvers, optionSchema, cooldown, confirmation);
+    }
+
+    /**
+     * Returns a copy of this plan that provides its parameters with the given
+     * resolvers.
+     *
+     * @param resolvers a resolver for every parameter binding of this plan
+     * @return the bound plan
+     * @see ParameterHandler#bind(Method, ParameterBinding[])
+     */
+    @NotNull
+    public InvocationPlan bind(@NotNull ParameterResolver[] resolvers) {
+        if (resolvers.length != parameters.length) {
+            throw new IllegalArgumentException("Expected %d resolvers, got %d".formatted(parameters.length, resolvers.length));
+        }
+
+        return new InvocationPlan(argumentOffset, preconditions, parameters,
+            resolvers, optionSchema, cooldown, confirmation);
+    }
+
+    /**
+     * Returns a copy of this plan that provides its parameters with the given
+     * resolvers and parses the options with the given schema.
+     *
+     * @param resolvers a resolver for every parameter binding of this plan
+     * @param optionSchema the schema of this plan with its converters bound
+     * @return the bound plan
+     * @see ParameterHandler#bindOptions(Method, OptionSchema)
+     */
+    @NotNull
+    public InvocationPlan bind(@NotNull ParameterResolver[] resolvers, @NotNull OptionSchema optionSchema) {
+        return bind(resolvers).withOptionSchema(optionSchema);
+    }
+
+    private InvocationPlan withOptionSchema(OptionSchema optionSchema) {
+        return new InvocationPlan(argumentOffset, preconditions, parameters,
+            resolvers, optionSchema, cooldown, confirmation);
+    }
+
+    /**
+     * @return the number of leading arguments consumed by the command path
+     */
+    public int argumentOffset() {
+        return argumentOffset;
+    }
+
+    @NotNull
+    public Precondition[] preconditions() {
+        return preconditions;
+    }
+
+    /**
+     * Returns the preconditions that have to be checked for senders of the given
+     * class. Checks that only depend on the sender class are already evaluated,
+     * so they are either left out or replaced by a check that always fails.
+     *
+     * @param senderClass the class of the sender
+     * @return the preconditions in the same order as {@link #preconditions()}
+     */
+    @NotNull
+    public Precondition[] preconditions(@NotNull SenderClass senderClass) {
+        return senderPreconditions[senderClass.ordinal()];
+    }
+
+    @NotNull
+    public ParameterBinding[] parameters() {
+        return parameters;
+    }
+
+    @NotNull
+    public ParameterResolver[] resolvers() {
+        return resolvers;
+    }
+
+    /**
+     * @return whether any of the parameters is provided asynchronously
+     * @see ParameterHandler#completeParameters(RegisteredMember, Object[])
+     */
+    public boolean hasAsyncParameters() {
+        return asyncParameters;
+    }
+
+    public boolean hasOptions() {
+        return !optionSchema.isEmpty();
+    }
+
+    /**
+     * @return the options and flags of the method, compiled at registration
+     */
+    @NotNull
+    public OptionSchema optionSchema() {
+        return optionSchema;
+    }
+
+    @Nullable
+    public CooldownMetadata cooldown() {
+        return cooldown;
+    }
+
+    @Nullable
+    public ConfirmationMetadata confirmation() {
+        return confirmation;
+    }
+
+    /**
+     * @param senderClass the class of the sender
+     * @return the cooldown, or {@code null} if senders of the given class are never affected by it
+     */
+    @Nullable
+    public CooldownMetadata cooldown(@NotNull SenderClass senderClass) {
+        return senderCooldowns[senderClass.ordinal()];
+    }
+
+    /**
+     * @param senderClass the class of the sender
+     * @return the confirmation, or {@code null} if senders of the given class never have to confirm
+     */
+    @Nullable
+    public ConfirmationMetadata confirmation(@NotNull SenderClass senderClass) {
+        return senderConfirmations[senderClass.ordinal()];
+    }
+
+    private static int depthOf(String path) {
+        int depth = 0;
+
+        for (int i = 0; i < path.length(); i++) {
+            if (path.charAt(i) == '.') {
+                depth++;
+            }
+        }
+
+        return depth;
+    }
+
+    private static boolean hasAsyncResolver(ParameterResolver[] resolvers) {
+        for (ParameterResolver resolver : resolvers) {
+            if (resolver.async()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Precondition[] preconditionsFor(Precondition[] preconditions, SenderClass senderClass) {
+        List<Precondition> specialized = new ArrayList<>(preconditions.length);
+
+        for (Precondition precondition : preconditions) {
+            Predicate<SenderClass> senderTest = precondition.senderTest();
+
+            if (senderTest == null) {
+                specialized.add(precondition);
+                continue;
+            }
+
+            if (!senderTest.test(senderClass)) {
+                // The checks after this one are never reached.
+                specialized.add(new Precondition((sender, argumentCount) -> false, precondition.error(), precondition.forwardResult()));
+                break;
+            }
+        }
+
+        return specialized.isEmpty() ? NO_PRECONDITIONS : specialized.toArray(Precondition[]::new);
+    }
+
+    private static CooldownMetadata cooldownFor(CooldownMetadata cooldown, SenderClass senderClass) {
+        if (cooldown == null || cooldown.value() <= 0) {
+            return null;
+        }
+
+        return switch (senderClass) {
+            case PLAYER -> cooldown;
+            // Command block senders are created for every execution, cooldowns would never apply to them.
+            case COMMAND_BLOCK -> null;
+            default -> cooldown.overrideConsole() ? cooldown : null;
+        };
+    }
+
+    private static ConfirmationMetadata confirmationFor(ConfirmationMetadata confirmation, SenderClass senderClass) {
+        if (confirmation == null || confirmation.expireAfter() <= 0) {
+            return null;
+        }
+
+        return switch (senderClass) {
+            case CONSOLE -> confirmation.overrideConsole() ? confirmation : null;
+            // Same as cooldowns, a command block could never confirm its own execution.
+            case COMMAND_BLOCK -> null;
+            default -> confirmation;
+        };
+    }
+
+    private static Precondition[] preconditionsOf(Command command) {
+        List<Precondition> preconditions = new ArrayList<>();
+        String permission = command.permission();
+        int min = command.min(), max = command.max();
+
+        if (command.onlyOp()) {
+            preconditions.add(new Precondition((sender, argumentCount) -> sender.isOp(), CommandErrorMessage.MUST_HAVE_OP, false));
+        }
+
+        if (!permission.isEmpty()) {
+            preconditions.add(new Precondition((sender, argumentCount) -> sender.hasPermission(permission), CommandErrorMessage.NO_PERMISSION, false));
+        }
+
+        switch (command.senderType()) {
+            case PLAYER -> preconditions.add(new Precondition((sender, argumentCount) -> sender instanceof Player, CommandErrorMessage.ONLY_BY_PLAYERS, false,
+                senderClass -> senderClass == SenderClass.PLAYER));
+            case CONSOLE -> preconditions.add(new Precondition((sender, argumentCount) -> !(sender instanceof Player), CommandErrorMessage.ONLY_BY_CONSOLE, false,
+                senderClass -> senderClass != SenderClass.PLAYER));
+            default -> { }
+        }
+
+        if (min > 0) {
+            preconditions.add(new Precondition((sender, argumentCount) -> argumentCount >= min, CommandErrorMessage.SHORT_ARG_SIZE, true));
+        }
+
+        if (max != -1) {
+            preconditions.add(new Precondition((sender, argumentCount) -> argumentCount <= max, CommandErrorMessage.LONG_ARG_SIZE, true));
+        }
+
+        return preconditions.isEmpty() ? NO_PRECONDITIONS : preconditions.toArray(Precondition[]::new);
+    }
+
+    /**
+     * A single check that has to pass before a member is invoked.
+     *
+     * @param test the check itself
+     * @param error the message sent to the sender if the check fails
+     * @param forwardResult whether the result of the message handler should be returned to Bukkit
+     * @param senderTest the same check in terms of the sender class, or {@code null} if it depends on the sender itself
+     */
+    public record Precondition(
+        @NotNull Test test,
+        @NotNull CommandErrorMessage error,
+        boolean forwardResult,
+        @Nullable Predicate<SenderClass> senderTest
+    ) {
+
+        public Precondition(@NotNull Test test, @NotNull CommandErrorMessage error, boolean forwardResult) {
+            this(test, error, forwardResult, null);
+        }
+
+        public boolean passes(@NotNull CommandSender sender, int argumentCount) {
+            return test.passes(sender, argumentCount);
+        }
+
+        @FunctionalInterface
+        public interface Test {
+
+            boolean passes(@NotNull CommandSender sender, int argumentCount);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Defines a hidden class implementing {@link MemberInvoker} for every linked
+ * member, so each invoker is its own receiver type and the call to the member
+ * stays monomorphic no matter how many commands are registered.
+ *
+ * @author Despical
+ * <p>
+ * Created at 17.10.2026
+ * @see HiddenInvoker
+ */
+final class InvokerClasses {
+
+    private static byte[] template;
+
+    private InvokerClasses() {
+    }
+
+    /**
+     * @param handle a handle of type {@code (Object[])Object} that calls the member
+     * @return an instance of a new hidden class that invokes the handle
+     * @throws ReflectiveOperationException if the hidden class can not be defined or instantiated
+     * @throws IOException if the template class can not be read
+     */
+    @NotNull
+    static MemberInvoker define(@NotNull MethodHandle handle) throws ReflectiveOperationException, IOException {
+        Class<?> invokerClass = MethodHandles.lookup()
+            .defineHiddenClassWithClassData(template(), handle, true)
+            .lookupClass();
+
+        return (MemberInvoker) invokerClass.getDeclaredConstructor().newInstance();
+    }
+
+    private static synchronized byte[] template() throws IOException {
+        if (template != null) {
+            return template;
+        }
+
+        String resource = HiddenInvoker.class.getSimpleName() + ".class";
+
+        try (InputStream stream = HiddenInvoker.class.getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new IOException("Could not find " + resource);
+            }
+
+            return template = stream.readAllBytes();
+        }
+    }
+}
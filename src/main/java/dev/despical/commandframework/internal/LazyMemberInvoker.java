@@ -0,0 +1,96 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Invoker that creates the handler instance and links the method on its
+ * first invocation.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+final class LazyMemberInvoker implements MemberInvoker {
+
+    private final CommandIntrospector introspector;
+    private final LazyInstance instance;
+    private final Method method;
+
+    private volatile MemberInvoker delegate;
+
+    LazyMemberInvoker(CommandIntrospector introspector, LazyInstance instance, Method method) {
+        this.introspector = introspector;
+        this.instance = instance;
+        this.method = method;
+    }
+
+    @Nullable
+    @Override
+    public Object invoke(@NotNull Object[] parameters) throws Throwable {
+        MemberInvoker invoker = delegate;
+
+        if (invoker == null) {
+            synchronized (this) {
+                invoker = delegate;
+
+                if (invoker == null) {
+                    delegate = invoker = introspector.link(instance.get(), method);
+                }
+            }
+        }
+
+        return invoker.invoke(parameters);
+    }
+
+    /**
+     * The handler instance shared by all lazy members of a class.
+     */
+    static final class LazyInstance {
+
+        private final Constructor<?> constructor;
+
+        private volatile Object instance;
+
+        LazyInstance(Constructor<?> constructor) {
+            this.constructor = constructor;
+        }
+
+        Object get() throws ReflectiveOperationException {
+            Object result = instance;
+
+            if (result == null) {
+                synchronized (this) {
+                    result = instance;
+
+                    if (result == null) {
+                        instance = result = constructor.newInstance();
+                    }
+                }
+            }
+
+            return result;
+        }
+    }
+}
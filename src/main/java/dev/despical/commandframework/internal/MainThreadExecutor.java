@@ -0,0 +1,104 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+/**
+ * Executes tasks on the server thread.
+ * <p>
+ * Instead of scheduling a Bukkit task for every task, submitted tasks are
+ * queued and a single task drains the whole queue on the next tick. If that
+ * task can not be scheduled, e.g. because the plugin is disabled, the submitted
+ * task is rejected and the next submission tries to schedule the drain again.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@ApiStatus.Internal
+public final class MainThreadExecutor implements Executor {
+
+    private final Plugin plugin;
+    private final BukkitScheduler scheduler;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    public MainThreadExecutor(@NotNull Plugin plugin) {
+        this(plugin, null);
+    }
+
+    /**
+     * @param plugin the plugin to schedule the drain task for
+     * @param scheduler the scheduler to use, or {@code null} to use the one of the server
+     */
+    public MainThreadExecutor(@NotNull Plugin plugin, @Nullable BukkitScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @throws RejectedExecutionException if the task that runs the queued tasks can not be scheduled
+     */
+    @Override
+    public void execute(@NotNull Runnable task) {
+        tasks.add(task);
+
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            (scheduler != null ? scheduler : Bukkit.getScheduler()).runTask(plugin, this::drain);
+        } catch (RuntimeException exception) {
+            // Otherwise every following task would wait for a drain that never runs.
+            drainScheduled.set(false);
+            tasks.remove(task);
+
+            throw new RejectedExecutionException("Could not schedule main thread tasks of " + plugin.getName(), exception);
+        }
+    }
+
+    private void drain() {
+        // Reset before polling so that tasks submitted while draining schedule the next drain.
+        drainScheduled.set(false);
+
+        Runnable task;
+
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Throwable throwable) {
+                plugin.getLogger().log(Level.SEVERE, "Error executing a main thread task", throwable);
+            }
+        }
+    }
+}
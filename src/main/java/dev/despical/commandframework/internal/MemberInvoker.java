@@ -0,0 +1,82 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import dev.despical.commandframework.CommandFramework;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+
+/**
+ * Invokes a registered command or completer method with its resolved parameters.
+ * <p>
+ * Invokers are created once at registration with the method already bound to
+ * its instance. Every member gets its own hidden class that holds the bound
+ * {@link MethodHandle} as a constant, see {@link HiddenInvoker}, so the call
+ * site of each invoker only ever sees a single target and can be inlined. If
+ * the class can not be defined, the invoker falls back to calling the spreader
+ * handle with {@link MethodHandle#invokeExact(Object...)}.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@FunctionalInterface
+public interface MemberInvoker {
+
+    @Nullable
+    Object invoke(@NotNull Object[] parameters) throws Throwable;
+
+    @NotNull
+    static MemberInvoker of(@Nullable Object instance, @NotNull Method method) throws IllegalAccessException {
+        MethodHandle handle = lookupFor(method.getDeclaringClass()).unreflect(method);
+
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(instance);
+        }
+
+        MethodHandle spreader = handle
+            .asSpreader(Object[].class, method.getParameterCount())
+            .asType(MethodType.methodType(Object.class, Object[].class));
+
+        try {
+            return InvokerClasses.define(spreader);
+        } catch (ReflectiveOperationException | IOException | LinkageError exception) {
+            CommandFramework.getInstance().getLogger().log(Level.WARNING,
+                "Could not generate an invoker class for %s, falling back to a method handle.".formatted(method), exception);
+        }
+
+        return parameters -> spreader.invokeExact(parameters);
+    }
+
+    private static MethodHandles.Lookup lookupFor(Class<?> declaringClass) {
+        try {
+            return MethodHandles.privateLookupIn(declaringClass, MethodHandles.lookup());
+        } catch (IllegalAccessException | SecurityException exception) {
+            return MethodHandles.lookup();
+        }
+    }
+}
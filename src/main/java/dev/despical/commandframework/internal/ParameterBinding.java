@@ -0,0 +1,79 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import dev.despical.commandframework.CommandArguments;
+import dev.despical.commandframework.annotations.Default;
+import dev.despical.commandframework.annotations.Param;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+/**
+ * Describes how a single method parameter is provided, resolved from the
+ * {@link Parameter} metadata once at registration.
+ *
+ * @param type the declared parameter type
+ * @param key the provider key, either the {@link Param} value or the simple name of the type
+ * @param qualified whether the key comes from a {@link Param} annotation
+ * @param defaultValue the raw {@link Default} value, or {@code null} if not present
+ * @param arguments whether the parameter receives the {@link CommandArguments} itself
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+public record ParameterBinding(
+    @NotNull Class<?> type,
+    @NotNull String key,
+    boolean qualified,
+    @Nullable String defaultValue,
+    boolean arguments
+) {
+
+    @NotNull
+    public static ParameterBinding[] of(@Nullable Method method) {
+        if (method == null) {
+            return new ParameterBinding[0];
+        }
+
+        Parameter[] parameters = method.getParameters();
+        ParameterBinding[] bindings = new ParameterBinding[parameters.length];
+
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            Class<?> type = parameter.getType();
+
+            Param param = parameter.getAnnotation(Param.class);
+            Default defaultAnnotation = parameter.getAnnotation(Default.class);
+
+            bindings[i] = new ParameterBinding(
+                type,
+                param != null ? param.value() : type.getSimpleName(),
+                param != null,
+                defaultAnnotation != null ? defaultAnnotation.value() : null,
+                CommandArguments.class.isAssignableFrom(type)
+            );
+        }
+
+        return bindings;
+    }
+}
@@ -21,19 +21,27 @@ package dev.despical.commandframework.internal;
 import com.google.common.primitives.Primitives;
 import dev.despical.commandframework.CommandArguments;
 import dev.despical.commandframework.CompleterHelper;
-import dev.despical.commandframework.annotations.Default;
-import dev.despical.commandframework.annotations.Param;
 import dev.despical.commandframework.exceptions.CommandException;
+import dev.despical.commandframework.parser.OptionSchema;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
+ * Methods are bound to the providers that are registered when they are bound, a
+ * provider added later only applies to the methods bound after it. Providers are
+ * also looked up while commands execute, so the maps are concurrent.
+ *
  * @author Despical
  * <p>
  * Created at 18.07.2024
@@ -41,82 +49,329 @@ import java.util.function.Function;
 @ApiStatus.Internal
 public final class ParameterHandler {
 
+    private static final Object[] NO_PARAMETERS = new Object[0];
+
+    @NotNull
+    private final Map<ProviderKey, Function<CommandArguments, ?>> typedProviders;
+
+    @NotNull
+    private final Map<String, Function<CommandArguments, ?>> namedProviders;
+
+    // Providers registered by type alone, by the simple name of the type. Parameters qualified with
+    // the simple name of such a type resolved to it before the providers were keyed by type.
+    @NotNull
+    private final Map<String, Function<CommandArguments, ?>> simpleNameProviders;
+
     @NotNull
-    private final Map<String, Function<CommandArguments, ?>> customParametersMap;
+    private final Set<String> ambiguousSimpleNames;
+
+    @NotNull
+    private final ConverterRegistry converters;
 
     public ParameterHandler() {
-        this.customParametersMap = new HashMap<>();
-        this.customParametersMap.put(CompleterHelper.class.getSimpleName(), CompleterHelper::new);
+        this(new ConverterRegistry());
+    }
+
+    public ParameterHandler(@NotNull ConverterRegistry converters) {
+        this.typedProviders = new ConcurrentHashMap<>();
+        this.namedProviders = new ConcurrentHashMap<>();
+        this.simpleNameProviders = new ConcurrentHashMap<>();
+        this.ambiguousSimpleNames = ConcurrentHashMap.newKeySet();
+        this.converters = converters;
+        this.addTypedParameter(new ProviderKey(CompleterHelper.class, null), CompleterHelper::new);
     }
 
     public <A, B extends A> void addCustomParameter(@NotNull String key, @NotNull Function<CommandArguments, B> function) {
-        if (this.customParametersMap.containsKey(key)) {
+        if (this.namedProviders.putIfAbsent(key, function) != null) {
             throw new CommandException("Cannot register custom parameter provider for ''{0}'' because it is already registered!", key);
         }
-
-        this.customParametersMap.put(key, function);
     }
 
     public <T> void addCustomParameter(@NotNull Class<T> clazz, @NotNull Function<CommandArguments, T> function) {
-        this.addCustomParameter(clazz.getSimpleName(), function);
+        this.addTypedParameter(new ProviderKey(clazz, null), function);
+    }
+
+    public <T> void addCustomParameter(@NotNull String qualifier, @NotNull Class<T> clazz, @NotNull Function<CommandArguments, T> function) {
+        this.addTypedParameter(new ProviderKey(clazz, qualifier), function);
     }
 
+    public <T> void addAsyncParameter(
+        @Nullable String qualifier,
+        @NotNull Class<T> clazz,
+        @NotNull Function<CommandArguments, ? extends CompletionStage<T>> function
+    ) {
+        this.addTypedParameter(new ProviderKey(clazz, qualifier), new AsyncProvider(function));
+    }
+
+    private void addTypedParameter(ProviderKey key, Function<CommandArguments, ?> function) {
+        String name = key.qualifier() == null ? key.type().getName() : "%s (%s)".formatted(key.qualifier(), key.type().getName());
+
+        if (this.typedProviders.putIfAbsent(key, function) != null) {
+            throw new CommandException("Cannot register custom parameter provider for ''{0}'' because it is already registered!", name);
+        }
+
+        if (key.qualifier() == null) {
+            String simpleName = key.type().getSimpleName();
+
+            if (this.simpleNameProviders.putIfAbsent(simpleName, function) != null) {
+                this.ambiguousSimpleNames.add(simpleName);
+            }
+        }
+    }
+
+    /**
+     * Binds every parameter of the given method to its provider, so that the
+     * dispatch path only has to call the returned resolvers in order.
+     *
+     * @param method the method the bindings belong to
+     * @param bindings the bindings of the method parameters
+     * @return a resolver for every binding
+     * @throws CommandException if there is no provider for one of the parameters or a default value is invalid
+     */
     @NotNull
-    public Object[] getParameterArray(Method method, CommandArguments commandArguments) throws Exception {
-        final Parameter[] parameters = method.getParameters();
-        final Object[] methodParameters = new Object[parameters.length];
+    public ParameterResolver[] bind(@NotNull Method method, @NotNull ParameterBinding[] bindings) {
+        ParameterResolver[] resolvers = new ParameterResolver[bindings.length];
+        String methodName = "%s#%s".formatted(method.getDeclaringClass().getSimpleName(), method.getName());
 
-        for (int i = 0; i < parameters.length; i++) {
-            Parameter param = parameters[i];
-            Class<?> paramType = param.getType();
+        // With a single provided parameter there is nothing to share the result with.
+        int providedCount = 0;
 
-            if (CommandArguments.class.isAssignableFrom(paramType)) {
-                if (!paramType.isInstance(commandArguments)) {
+        for (ParameterBinding binding : bindings) {
+            if (!binding.arguments()) {
+                providedCount++;
+            }
+        }
+
+        for (int i = 0; i < bindings.length; i++) {
+            resolvers[i] = bind(methodName, bindings[i], providedCount > 1);
+        }
+
+        return resolvers;
+    }
+
+    private ParameterResolver bind(String methodName, ParameterBinding binding, boolean memoized) {
+        Class<?> paramType = binding.type();
+
+        if (binding.arguments()) {
+            return arguments -> {
+                if (!paramType.isInstance(arguments)) {
                     throw new CommandException(
                         "Command argument parameter type ''{0}'' in method ''{1}'' cannot be provided by default arguments type ''{2}''. Use CommandFramework#setDefaultArguments to configure it.",
-                        paramType.getSimpleName(), method.getName(), commandArguments.getClass().getSimpleName()
+                        paramType.getSimpleName(), methodName, arguments.getClass().getSimpleName()
                     );
                 }
 
-                methodParameters[i] = commandArguments;
-                continue;
-            }
+                return arguments;
+            };
+        }
 
-            Param paramAnnotation = param.getAnnotation(Param.class);
+        // Memoized by the provider itself, so providers asking for the same parameter share the result.
+        Function<CommandArguments, ?> source = getProvider(methodName, binding);
+        Function<CommandArguments, ?> provider = memoized ? arguments -> arguments.memoize(source, source) : source;
+        Function<Object, Object> fallback = fallbackOf(methodName, binding);
 
-            String simpleName = paramType.getSimpleName();
-            String key = getKey(method, paramAnnotation, simpleName);
+        if (source instanceof AsyncProvider) {
+            return new AsyncResolver(provider, fallback != null ? fallback : Function.identity());
+        }
 
-            Object value = customParametersMap.get(key).apply(commandArguments);
+        if (fallback == null) {
+            return provider::apply;
+        }
 
-            if (value == null && param.isAnnotationPresent(Default.class)) {
-                String defaultValue = param.getAnnotation(Default.class).value();
-                value = parseDefaultValue(paramType, defaultValue);
-            }
+        return arguments -> fallback.apply(provider.apply(arguments));
+    }
+
+    @Nullable
+    private Function<Object, Object> fallbackOf(String methodName, ParameterBinding binding) {
+        Class<?> paramType = binding.type();
+        String key = binding.key(), defaultValue = binding.defaultValue();
+
+        if (defaultValue == null) {
+            return paramType.isPrimitive() ? value -> requireNonNull(value, key, paramType, methodName) : null;
+        }
+
+        ConverterRegistry.Converter converter = converters.find(paramType);
+
+        if (converter == null) {
+            throw new CommandException(
+                "Type ''{0}'' of parameter ''{1}'' in method ''{2}'' does not support default values. Register a converter using CommandFramework#addValueConverter.",
+                paramType.getSimpleName(), key, methodName
+            );
+        }
+
+        if (!converter.constant()) {
+            return value -> value != null ? value : requireNonNull(convertDefault(converter, defaultValue, key, paramType, methodName), key, paramType, methodName);
+        }
+
+        Object parsedDefault = convertDefault(converter, defaultValue, key, paramType, methodName);
+        return value -> value != null ? value : parsedDefault;
+    }
+
+    private static Object convertDefault(ConverterRegistry.Converter converter, String defaultValue, String key, Class<?> paramType, String methodName) {
+        Object converted = converter.convert(defaultValue);
+
+        if (converted == ConverterRegistry.INVALID) {
+            throw new CommandException(
+                "Default value ''{0}'' of parameter ''{1}'' in method ''{2}'' is not a valid {3}.",
+                defaultValue, key, methodName, paramType.getSimpleName()
+            );
+        }
 
-            if (value == null && paramType.isPrimitive()) {
+        return converted;
+    }
+
+    /**
+     * Binds the options of the given method that declare a type to their converters.
+     *
+     * @param method the method the options belong to
+     * @param optionSchema the compiled options of the method
+     * @return the schema that converts the typed options
+     * @throws CommandException if the type of one of the options is not supported
+     */
+    @NotNull
+    public OptionSchema bindOptions(@NotNull Method method, @NotNull OptionSchema optionSchema) {
+        String methodName = "%s#%s".formatted(method.getDeclaringClass().getSimpleName(), method.getName());
+
+        return optionSchema.withConverters((option, type) -> {
+            ConverterRegistry.Converter converter = converters.find(type);
+
+            if (converter == null) {
                 throw new CommandException(
-                    "Primitive parameter ''{0}'' (type: {1}) in method ''{2}'' cannot be null! usage: Use a wrapper class (e.g. Integer) or ensure the provider returns a value.",
-                    key, simpleName, method.getName()
+                    "Type ''{0}'' of option ''{1}'' in method ''{2}'' is not supported. Register a converter using CommandFramework#addValueConverter.",
+                    type.getSimpleName(), option, methodName
                 );
             }
 
-            methodParameters[i] = value;
+            return converter.function();
+        });
+    }
+
+    private static Object requireNonNull(Object value, String key, Class<?> paramType, String methodName) {
+        if (value == null && paramType.isPrimitive()) {
+            throw new CommandException(
+                "Primitive parameter ''{0}'' (type: {1}) in method ''{2}'' cannot be null! usage: Use a wrapper class (e.g. Integer) or ensure the provider returns a value.",
+                key, paramType.getSimpleName(), methodName
+            );
+        }
+
+        return value;
+    }
+
+    @NotNull
+    public Object[] getParameterArray(RegisteredMember<?> member, CommandArguments commandArguments) throws Exception {
+        final ParameterResolver[] resolvers = member.plan().resolvers();
+
+        if (resolvers.length == 0) {
+            return NO_PARAMETERS;
+        }
+
+        final Object[] methodParameters = new Object[resolvers.length];
+
+        for (int i = 0; i < resolvers.length; i++) {
+            methodParameters[i] = resolvers[i].resolve(commandArguments);
         }
 
         return methodParameters;
     }
 
-    private String getKey(Method method, Param paramAnnotation, String simpleName) {
-        String key = (paramAnnotation != null) ? paramAnnotation.value() : simpleName;
+    /**
+     * Returns a future that completes with the given parameter array once the values of
+     * the asynchronous parameters in it are loaded. The stages returned by the asynchronous
+     * resolvers are replaced with their values in place. If the returned future fails, for
+     * example because it timed out, the stages that are still loading are cancelled.
+     *
+     * @param member the member the parameters belong to
+     * @param parameters the array returned by {@link #getParameterArray(RegisteredMember, CommandArguments)}
+     * @return the future of the completed array, completes exceptionally if one of the values fails to load
+     */
+    @NotNull
+    public CompletableFuture<Object[]> completeParameters(RegisteredMember<?> member, Object[] parameters) {
+        final ParameterResolver[] resolvers = member.plan().resolvers();
+        final List<CompletableFuture<?>> loads = new ArrayList<>(resolvers.length);
+        final List<CompletableFuture<?>> pending = new ArrayList<>(resolvers.length);
+
+        for (int i = 0; i < resolvers.length; i++) {
+            ParameterResolver resolver = resolvers[i];
+
+            if (!resolver.async()) {
+                continue;
+            }
+
+            int index = i;
+            CompletableFuture<?> stage = ((CompletionStage<?>) parameters[i]).toCompletableFuture();
+
+            // Every value is written to its own slot, allOf publishes them to the dependent stages.
+            loads.add(stage);
+            pending.add(stage.thenAccept(value -> parameters[index] = resolver.complete(value)));
+        }
+
+        CompletableFuture<Object[]> completed = CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).thenApply(ignored -> parameters);
+
+        completed.whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                loads.forEach(load -> load.cancel(true));
+            }
+        });
+
+        return completed;
+    }
+
+    /**
+     * @param provider a provider returned by {@link #findProvider(Class, String)}
+     * @return whether the provider returns a {@link CompletionStage} of the value
+     */
+    public boolean isAsync(@NotNull Function<CommandArguments, ?> provider) {
+        return provider instanceof AsyncProvider;
+    }
+
+    /**
+     * Finds the provider of parameters of the given type and qualifier the same way
+     * the method parameters are bound.
+     *
+     * @param type the type of the parameter
+     * @param qualifier the {@link dev.despical.commandframework.annotations.Param @Param} value, or {@code null}
+     * @return the provider, or {@code null} if there is none
+     */
+    @Nullable
+    public Function<CommandArguments, ?> findProvider(@NotNull Class<?> type, @Nullable String qualifier) {
+        // Providers registered for the exact type and qualifier come first, then the ones registered
+        // by name, which for unqualified parameters is the simple name of the type, and last the ones
+        // registered by a type whose simple name is the qualifier.
+        Function<CommandArguments, ?> provider = typedProviders.get(new ProviderKey(type, qualifier));
+
+        if (provider == null && type.isPrimitive()) {
+            provider = typedProviders.get(new ProviderKey(Primitives.wrap(type), qualifier));
+        }
+
+        if (provider == null) {
+            provider = namedProviders.get(qualifier != null ? qualifier : type.getSimpleName());
+        }
+
+        if (provider == null && qualifier != null && !ambiguousSimpleNames.contains(qualifier)) {
+            provider = simpleNameProviders.get(qualifier);
+        }
+
+        return provider;
+    }
+
+    private Function<CommandArguments, ?> getProvider(String methodName, ParameterBinding binding) {
+        Class<?> type = binding.type();
+        Function<CommandArguments, ?> provider = findProvider(type, binding.qualified() ? binding.key() : null);
 
-        if (!customParametersMap.containsKey(key)) {
-            String methodName = "%s#%s".formatted(method.getDeclaringClass().getSimpleName(), method.getName());
+        if (provider == null) {
+            String simpleName = type.getSimpleName();
 
-            if (paramAnnotation != null) {
+            if (binding.qualified() && ambiguousSimpleNames.contains(binding.key())) {
+                throw new CommandException(
+                    "Parameter provider for @Param(''{0}'') in method ''{1}'' is ambiguous, there are providers for several types named ''{0}''. Use the type of the parameter or register the provider with a qualifier.",
+                    binding.key(), methodName
+                );
+            }
+
+            if (binding.qualified()) {
                 throw new CommandException(
                     "No parameter provider found for @Param(''{0}'') in method ''{1}''. Requested Type: {2}. Did you forget to register it?",
-                    key, methodName, simpleName
+                    binding.key(), methodName, simpleName
                 );
             }
 
@@ -125,20 +380,45 @@ public final class ParameterHandler {
                 simpleName, methodName
             );
         }
-        return key;
+
+        return provider;
+    }
+
+    private record ProviderKey(@NotNull Class<?> type, @Nullable String qualifier) {
+    }
+
+    /**
+     * Wraps the function of an asynchronous parameter. It is called on the thread that
+     * executes the command, which is the main thread unless the command is async, and
+     * only requests the stage. The stages are cancelled if they are not complete when
+     * the command times out or another one fails.
+     */
+    private record AsyncProvider(@NotNull Function<CommandArguments, ? extends CompletionStage<?>> function)
+        implements Function<CommandArguments, Object> {
+
+        @Override
+        public CompletionStage<?> apply(CommandArguments arguments) {
+            CompletionStage<?> stage = function.apply(arguments);
+            return stage != null ? stage : CompletableFuture.completedFuture(null);
+        }
     }
 
-    private Object parseDefaultValue(Class<?> type, String value) throws Exception {
-        if (type == String.class) {
-            return value;
+    private record AsyncResolver(@NotNull Function<CommandArguments, ?> provider, @NotNull Function<Object, Object> fallback)
+        implements ParameterResolver {
+
+        @Override
+        public Object resolve(@NotNull CommandArguments arguments) {
+            return provider.apply(arguments);
         }
 
-        Class<?> actualType = Primitives.isWrapperType(type) ? type : Primitives.wrap(type);
+        @Override
+        public boolean async() {
+            return true;
+        }
 
-        try {
-            return actualType.getMethod("valueOf", String.class).invoke(null, value);
-        } catch (NoSuchMethodException exception) {
-            throw new CommandException("Type ''{0}'' does not support default values (missing static valueOf(String) method).", type.getSimpleName());
+        @Override
+        public Object complete(Object value) {
+            return fallback.apply(value);
         }
     }
 }
@@ -0,0 +1,60 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.internal;
+
+import dev.despical.commandframework.CommandArguments;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Provides the value of a single method parameter, bound to its provider,
+ * default value and checks at registration.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ *
+ * @see ParameterHandler#bind(java.lang.reflect.Method, ParameterBinding[])
+ */
+@FunctionalInterface
+public interface ParameterResolver {
+
+    @Nullable
+    Object resolve(@NotNull CommandArguments arguments) throws Exception;
+
+    /**
+     * @return whether {@link #resolve(CommandArguments)} returns a
+     * {@link java.util.concurrent.CompletionStage} of the value instead of the value itself
+     */
+    default boolean async() {
+        return false;
+    }
+
+    /**
+     * Applies the default value and checks of the parameter to the completed value
+     * of an asynchronous resolver.
+     *
+     * @param value the completed value, may be null
+     * @return the value of the parameter
+     */
+    @Nullable
+    default Object complete(@Nullable Object value) {
+        return value;
+    }
+}
@@ -23,17 +23,17 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
-import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 
 /**
  * Represents a registered command or completer with its execution handle.
  *
  * @param <T> The annotation type (Command or Completer)
- * @param instance The object instance containing the method
+ * @param instance The object instance containing the method, or {@code null} if it is created lazily
  * @param method The original reflection method (used for annotation processing)
- * @param handle The high-performance MethodHandle for execution
+ * @param invoker The invoker bound to the instance, used for execution
  * @param annotation The specific annotation instance (@Command or @Completer)
+ * @param plan The precompiled execution data of this member
  *
  * @author Despical
  * <p>
@@ -42,15 +42,16 @@ import java.lang.reflect.Method;
 public record RegisteredMember<T extends Annotation>(
     @Nullable Object instance,
     @Nullable Method method,
-    @Nullable MethodHandle handle,
-    @NotNull T annotation
+    @Nullable MemberInvoker invoker,
+    @NotNull T annotation,
+    @NotNull InvocationPlan plan
 ) {
 
     public RegisteredMember<T> withAnnotation(@NotNull T annotation) {
-        return new RegisteredMember<>(instance, method, handle, annotation);
+        return new RegisteredMember<>(instance, method, invoker, annotation, plan.withAnnotation(annotation));
     }
 
     public static RegisteredMember<Command> dummyCommand(Command command) {
-        return new RegisteredMember<>(null , null, null, command);
+        return new RegisteredMember<>(null , null, null, command, InvocationPlan.forCommand(command, null));
     }
 }
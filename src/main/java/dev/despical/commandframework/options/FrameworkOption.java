@@ -28,6 +28,10 @@ import dev.despical.commandframework.CommandArguments;
  * @see FrameworkOption#CUSTOM_COOLDOWN_CHECKER
  * @see FrameworkOption#CONFIRMATIONS
  * @see FrameworkOption#DEBUG
+ * @see FrameworkOption#VIRTUAL_THREADS
+ * @see FrameworkOption#PARALLEL_SCANNING
+ * @see FrameworkOption#LAZY_INSTANTIATION
+ * @see FrameworkOption#WARM_UP
  */
 public enum FrameworkOption {
 
@@ -44,5 +48,52 @@ public enum FrameworkOption {
 	/**
 	 * This option enables the debug mode for this framework.
 	 */
-	DEBUG
+	DEBUG,
+
+	/**
+	 * This option runs asynchronous commands on a dedicated virtual thread per task
+	 * executor instead of the Bukkit scheduler's shared thread pool.
+	 *
+	 * @see OptionManager#setAsyncConcurrencyLimit(int)
+	 */
+	VIRTUAL_THREADS,
+
+	/**
+	 * This option loads the classes found by
+	 * {@link dev.despical.commandframework.CommandFramework#registerAllInPackage(String)}
+	 * and reads their methods in parallel. The classes are still instantiated on the
+	 * registering thread and added to the command tree in a fixed order.
+	 */
+	PARALLEL_SCANNING,
+
+	/**
+	 * This option registers the classes found by
+	 * {@link dev.despical.commandframework.CommandFramework#registerAllInPackage(String)}
+	 * from their metadata only. A class is initialized and instantiated, and its
+	 * methods are linked, when one of its commands or completers is first used.
+	 */
+	LAZY_INSTANTIATION,
+
+	/**
+	 * This option dry-runs the dispatch of every newly registered command and completer
+	 * after the registration, so the first execution does not pay for class initialization
+	 * and linkage. Each member goes through the checks of every kind of sender, but no
+	 * command methods or parameter providers are called, and lazily instantiated classes
+	 * are not instantiated. The elapsed time is logged.
+	 *
+	 * @see OptionManager#setWarmUpAsync(boolean)
+	 */
+	WARM_UP,
+
+	/**
+	 * This option caches the matched command of recent command lines, so executing the
+	 * same command line again, e.g. from a command block every tick, skips the matching.
+	 * The options and flags of a cached command line are parsed the first time they are
+	 * read and reused by later executions, unless they declare a type. The cache is cleared
+	 * whenever the registered commands change, parameters are resolved for every execution.
+	 *
+	 * @see OptionManager#setCommandCacheSize(int)
+	 * @see dev.despical.commandframework.CommandFramework#getCommandCacheHits()
+	 */
+	COMMAND_CACHE
 }
@@ -21,6 +21,7 @@ package dev.despical.commandframework.options;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class handles the options related Command Framework.
@@ -39,6 +40,12 @@ public final class OptionManager {
 
     private final Set<FrameworkOption> frameworkOptions = EnumSet.noneOf(FrameworkOption.class);
 
+	private int asyncConcurrencyLimit = -1;
+	private boolean warmUpAsync;
+	private long asyncParameterTimeout = TimeUnit.SECONDS.toMillis(5);
+	private long asyncShutdownTimeout;
+	private int commandCacheSize = 256;
+
 	public void enableOption(FrameworkOption frameworkOption) {
 		this.frameworkOptions.add(frameworkOption);
 	}
@@ -50,4 +57,106 @@ public final class OptionManager {
 	public boolean isEnabled(FrameworkOption frameworkOption) {
 		return this.frameworkOptions.contains(frameworkOption);
 	}
+
+	/**
+	 * Sets the maximum number of asynchronous commands that can run at the same time
+	 * when {@link FrameworkOption#VIRTUAL_THREADS} is enabled. Commands exceeding the
+	 * limit wait for a free slot on their own virtual thread.
+	 * <p>
+	 * Must be set before the first asynchronous command is executed.
+	 *
+	 * @param asyncConcurrencyLimit the limit, -1 for no limit
+	 */
+	public void setAsyncConcurrencyLimit(int asyncConcurrencyLimit) {
+		if (asyncConcurrencyLimit == 0 || asyncConcurrencyLimit < -1) {
+			throw new IllegalArgumentException("Async concurrency limit must be positive or -1 for no limit.");
+		}
+
+		this.asyncConcurrencyLimit = asyncConcurrencyLimit;
+	}
+
+	public int getAsyncConcurrencyLimit() {
+		return this.asyncConcurrencyLimit;
+	}
+
+	/**
+	 * Sets whether the warm-up of {@link FrameworkOption#WARM_UP} runs on a background
+	 * thread instead of blocking the registration. Parameter providers should be added
+	 * before the commands are registered when this is enabled.
+	 *
+	 * @param warmUpAsync true to warm up on a background thread
+	 */
+	public void setWarmUpAsync(boolean warmUpAsync) {
+		this.warmUpAsync = warmUpAsync;
+	}
+
+	public boolean isWarmUpAsync() {
+		return this.warmUpAsync;
+	}
+
+	/**
+	 * Sets how long a command waits for the values of its asynchronous parameter
+	 * providers. If they are not loaded in time, the command is not executed and
+	 * {@link dev.despical.commandframework.CommandErrorMessage#PARAMETER_TIMEOUT} is sent.
+	 *
+	 * @param timeout  the timeout, must be positive
+	 * @param timeUnit the unit of the timeout
+	 */
+	public void setAsyncParameterTimeout(long timeout, TimeUnit timeUnit) {
+		if (timeout <= 0) {
+			throw new IllegalArgumentException("Async parameter timeout must be positive.");
+		}
+
+		this.asyncParameterTimeout = timeUnit.toMillis(timeout);
+	}
+
+	/**
+	 * @return the timeout of the asynchronous parameter providers in milliseconds
+	 */
+	public long getAsyncParameterTimeout() {
+		return this.asyncParameterTimeout;
+	}
+
+	/**
+	 * Sets how long {@link dev.despical.commandframework.CommandFramework#unregisterCommands()}
+	 * waits for the running asynchronous commands of {@link FrameworkOption#VIRTUAL_THREADS}
+	 * to complete before interrupting them. The server thread is blocked while waiting,
+	 * by default it does not wait and the running commands are left to complete on their own.
+	 *
+	 * @param timeout  the timeout, 0 to not wait
+	 * @param timeUnit the unit of the timeout
+	 */
+	public void setAsyncShutdownTimeout(long timeout, TimeUnit timeUnit) {
+		if (timeout < 0) {
+			throw new IllegalArgumentException("Async shutdown timeout can not be negative.");
+		}
+
+		this.asyncShutdownTimeout = timeUnit.toMillis(timeout);
+	}
+
+	/**
+	 * @return the shutdown timeout of the asynchronous commands in milliseconds
+	 */
+	public long getAsyncShutdownTimeout() {
+		return this.asyncShutdownTimeout;
+	}
+
+	/**
+	 * Sets the maximum number of command lines kept by {@link FrameworkOption#COMMAND_CACHE}.
+	 * The size is rounded up to a power of two, a command line replaces the one cached
+	 * in the same slot.
+	 *
+	 * @param commandCacheSize the maximum number of command lines, must be positive
+	 */
+	public void setCommandCacheSize(int commandCacheSize) {
+		if (commandCacheSize <= 0) {
+			throw new IllegalArgumentException("Command cache size must be positive.");
+		}
+
+		this.commandCacheSize = commandCacheSize;
+	}
+
+	public int getCommandCacheSize() {
+		return this.commandCacheSize;
+	}
 }
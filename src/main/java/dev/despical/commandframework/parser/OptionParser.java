@@ -23,10 +23,16 @@ import dev.despical.commandframework.annotations.Option;
 import org.jetbrains.annotations.ApiStatus;
 
 import java.lang.reflect.Method;
-import java.util.*;
-import java.util.regex.Pattern;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
+ * Parses the options and flags of a single execution.
+ * <p>
+ * The annotations are compiled into an {@link OptionSchema} on every construction, so
+ * the dispatch path uses the schema compiled at registration directly.
+ *
  * @author Despical
  * <p>
  * Created at 20.09.2024
@@ -34,96 +40,32 @@ import java.util.regex.Pattern;
 @ApiStatus.Internal
 public final class OptionParser {
 
-    private final Flag[] flags;
-    private final Option[] options;
-    private final Set<String> arguments;
-    private final Set<String> parsedFlags;
-    private final Map<String, List<String>> parsedOptions;
+    private final OptionSchema.Result result;
 
     public OptionParser(String[] arguments, Method method) {
-        this.flags = method.getAnnotationsByType(Flag.class);
-        this.options = method.getAnnotationsByType(Option.class);
-        this.arguments = new HashSet<>(Arrays.asList(arguments));
-        this.parsedFlags = new HashSet<>();
-        this.parsedOptions = new HashMap<>();
+        this(arguments, method.getAnnotationsByType(Flag.class), method.getAnnotationsByType(Option.class));
     }
 
-    public Map<String, List<String>> parseOptions() {
-        for (Option option : options) {
-            this.parseOption(option);
-        }
-
-        return this.parsedOptions;
+    public OptionParser(String[] arguments, Flag[] flags, Option[] options) {
+        this(OptionSchema.compile(flags, options), arguments);
     }
 
-    public Set<String> parseFlags() {
-        for (Flag flag : flags) {
-            this.parseFlag(flag);
-        }
-
-        return this.parsedFlags;
+    public OptionParser(OptionSchema schema, String[] arguments) {
+        this.result = schema.parse(arguments, 0, arguments.length);
     }
 
-    private void parseOption(Option option) {
-        String prefix = option.prefix();
-        String keySeparator = option.keySeparator();
-        String valueSeparator = option.valueSeparator();
-
-        Iterator<String> iterator = arguments.iterator();
-
-        while (iterator.hasNext()) {
-            String argument = iterator.next();
-
-            if (!argument.startsWith(prefix)) {
-                continue;
-            }
-
-            String raw = argument.substring(prefix.length());
-
-            if (!raw.startsWith(option.value() + keySeparator)) {
-                continue;
-            }
-
-            String valuePart = raw.substring((option.value() + keySeparator).length());
-
-            if (!option.allowSeparating()) {
-                this.parsedOptions.put(option.value(), Collections.singletonList(valuePart));
-            } else {
-                this.parsedOptions.put(
-                    option.value(),
-                    Arrays.asList(valuePart.split(Pattern.quote(valueSeparator)))
-                );
-            }
-
-            iterator.remove();
-            return;
-        }
+    public Map<String, List<String>> parseOptions() {
+        return this.result.options();
     }
 
-    private void parseFlag(Flag flag) {
-        String prefix = flag.prefix();
-        Iterator<String> iterator = this.arguments.iterator();
-
-        while (iterator.hasNext()) {
-            String argument = iterator.next();
-
-            if (!argument.startsWith(prefix)) {
-                continue;
-            }
-
-            if (argument.length() <= prefix.length()) {
-                continue;
-            }
-
-            String foundFlag = argument.substring(prefix.length());
+    public Set<String> parseFlags() {
+        return this.result.flags();
+    }
 
-            for (String flagName : flag.value()) {
-                if (flagName.equals(foundFlag)) {
-                    this.parsedFlags.add(flagName);
-                    iterator.remove();
-                    break;
-                }
-            }
-        }
+    /**
+     * @return the arguments that are neither options nor flags, in their original order
+     */
+    public List<String> getPositionalArguments() {
+        return this.result.positionals();
     }
 }
@@ -0,0 +1,433 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.parser;
+
+import dev.despical.commandframework.annotations.Flag;
+import dev.despical.commandframework.annotations.Option;
+import dev.despical.commandframework.internal.ConverterRegistry;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The {@link Option} and {@link Flag} annotations of a method compiled into lookup
+ * tables, so the arguments can be parsed in a single pass.
+ * <p>
+ * Flags are looked up by the whole argument. Options are looked up by their head,
+ * the prefix, key and key separator, using a hash of the leading characters of the
+ * argument that is computed while it is scanned, so arguments that are not options
+ * are rejected without any allocation.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@ApiStatus.Internal
+public final class OptionSchema {
+
+    public static final OptionSchema EMPTY = new OptionSchema(new Flag[0], new Option[0]);
+
+    private final Map<String, Integer> flagTokens;
+    private final String[] flagNames;
+    private final OptionEntry[] optionTable;
+    private final boolean[] headLengths;
+    private final int optionCount;
+
+    // Indexed by the option, options with the same name share an index.
+    private final String[] optionNames;
+    private final Class<?>[] optionTypes;
+    private final String leadingChars;
+
+    // Indexed by the option, null if the values are not converted.
+    private final Function<String, ?>[] converters;
+
+    private OptionSchema(Flag[] flags, Option[] options) {
+        this.flagTokens = new HashMap<>();
+
+        Set<String> prefixes = new HashSet<>();
+        List<String> flagNames = new ArrayList<>();
+
+        for (Flag flag : flags) {
+            for (String name : flag.value()) {
+                if (name.isEmpty()) {
+                    continue;
+                }
+
+                if (!flagNames.contains(name)) {
+                    flagNames.add(name);
+                }
+
+                this.flagTokens.putIfAbsent(flag.prefix() + name, flagNames.indexOf(name));
+                prefixes.add(flag.prefix());
+            }
+        }
+
+        this.flagNames = flagNames.toArray(String[]::new);
+
+        List<OptionEntry> entries = new ArrayList<>(options.length);
+        List<String> optionNames = new ArrayList<>();
+        List<Class<?>> optionTypes = new ArrayList<>();
+        int maxHeadLength = 0;
+
+        for (Option option : options) {
+            String head = option.prefix() + option.value() + option.keySeparator();
+            String separator = option.allowSeparating() && !option.valueSeparator().isEmpty() ? option.valueSeparator() : null;
+
+            if (entries.stream().anyMatch(entry -> entry.head().equals(head))) {
+                continue;
+            }
+
+            // Options with the same name but another prefix or separator are the same option,
+            // the type of the first one is used.
+            if (!optionNames.contains(option.value())) {
+                optionNames.add(option.value());
+                optionTypes.add(option.type());
+            }
+
+            entries.add(new OptionEntry(optionNames.indexOf(option.value()), head, separator));
+            prefixes.add(option.prefix());
+            maxHeadLength = Math.max(maxHeadLength, head.length());
+        }
+
+        this.optionNames = optionNames.toArray(String[]::new);
+        this.optionTypes = optionTypes.toArray(Class<?>[]::new);
+        this.optionCount = optionNames.size();
+        this.optionTable = new OptionEntry[tableSize(entries.size())];
+        this.headLengths = new boolean[maxHeadLength + 1];
+
+        for (OptionEntry entry : entries) {
+            int index = entry.head().hashCode() & (optionTable.length - 1);
+
+            while (optionTable[index] != null) {
+                index = (index + 1) & (optionTable.length - 1);
+            }
+
+            optionTable[index] = entry;
+            headLengths[entry.head().length()] = true;
+        }
+
+        // An empty prefix matches any argument, so there is nothing to reject early.
+        StringBuilder leadingChars = new StringBuilder();
+
+        for (String prefix : prefixes) {
+            if (prefix.isEmpty()) {
+                leadingChars = null;
+                break;
+            }
+
+            leadingChars.append(prefix.charAt(0));
+        }
+
+        this.leadingChars = leadingChars != null ? leadingChars.toString() : null;
+        this.converters = null;
+    }
+
+    private OptionSchema(OptionSchema schema, Function<String, ?>[] converters) {
+        this.flagTokens = schema.flagTokens;
+        this.flagNames = schema.flagNames;
+        this.optionTable = schema.optionTable;
+        this.headLengths = schema.headLengths;
+        this.optionCount = schema.optionCount;
+        this.optionNames = schema.optionNames;
+        this.optionTypes = schema.optionTypes;
+        this.leadingChars = schema.leadingChars;
+        this.converters = converters;
+    }
+
+    /**
+     * Compiles the given annotations, usually once per method at registration.
+     *
+     * @param flags the flags of the method
+     * @param options the options of the method
+     * @return the compiled schema, {@link #EMPTY} if there are no flags and options
+     */
+    @NotNull
+    public static OptionSchema compile(@NotNull Flag[] flags, @NotNull Option[] options) {
+        return flags.length == 0 && options.length == 0 ? EMPTY : new OptionSchema(flags, options);
+    }
+
+    /**
+     * Returns a copy of this schema that converts the values of the options that declare
+     * a {@linkplain Option#type() type} other than {@link String} while parsing.
+     *
+     * @param converters finds the converter for the name and type of an option, should
+     *                   throw an exception if the type is not supported. The converters
+     *                   return {@link ConverterRegistry#INVALID} for invalid values
+     * @return the schema with the converters, or this schema if no option declares a type
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public OptionSchema withConverters(@NotNull BiFunction<String, Class<?>, Function<String, ?>> converters) {
+        Function<String, ?>[] bound = null;
+
+        for (int i = 0; i < optionCount; i++) {
+            if (optionTypes[i] == String.class) {
+                continue;
+            }
+
+            if (bound == null) {
+                bound = new Function[optionCount];
+            }
+
+            bound[i] = converters.apply(optionNames[i], optionTypes[i]);
+        }
+
+        return bound == null ? this : new OptionSchema(this, bound);
+    }
+
+    public boolean isEmpty() {
+        return flagNames.length == 0 && optionCount == 0;
+    }
+
+    /**
+     * Parses the given range of the arguments in a single pass. The first occurrence of
+     * an option is used, later occurrences are kept as positional arguments. The returned
+     * options and flags are unmodifiable.
+     *
+     * @param arguments the array that holds the arguments
+     * @param offset the index of the first argument in the array
+     * @param length the number of arguments
+     * @return the parsed options and flags, and the remaining arguments in their original order
+     */
+    @NotNull
+    public Result parse(@NotNull String[] arguments, int offset, int length) {
+        // Indexed by the option and flag, the first occurrence of an option wins.
+        List<?>[] values = null;
+        boolean[] flags = null;
+        List<String> positionals = null;
+
+        for (int i = offset, end = offset + length; i < end; i++) {
+            String argument = arguments[i];
+            boolean recognized = false;
+
+            if (leadingChars == null || (!argument.isEmpty() && leadingChars.indexOf(argument.charAt(0)) >= 0)) {
+                OptionEntry option = optionCount == 0 ? null : findOption(argument);
+
+                if (option != null && (values == null || values[option.index()] == null)) {
+                    if (values == null) {
+                        values = new List<?>[optionCount];
+                    }
+
+                    values[option.index()] = option.values(argument);
+                    recognized = true;
+                } else {
+                    Integer flag = flagTokens.get(argument);
+
+                    if (flag != null) {
+                        if (flags == null) {
+                            flags = new boolean[flagNames.length];
+                        }
+
+                        flags[flag] = true;
+                        recognized = true;
+                    }
+                }
+            }
+
+            if (recognized) {
+                // The arguments before the first recognized one are positional as well.
+                if (positionals == null) {
+                    positionals = new ArrayList<>(Arrays.asList(arguments).subList(offset, i));
+                }
+            } else if (positionals != null) {
+                positionals.add(argument);
+            }
+        }
+
+        return new Result(
+            values != null ? toMap(values) : Map.of(),
+            values != null && converters != null ? convert(values) : Map.of(),
+            flags != null ? toSet(flags) : Set.of(),
+            Collections.unmodifiableList(positionals != null ? positionals : Arrays.asList(arguments).subList(offset, offset + length))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, List<String>> toMap(List<?>[] values) {
+        int count = 0;
+
+        for (List<?> value : values) {
+            if (value != null) {
+                count++;
+            }
+        }
+
+        Map.Entry<String, List<String>>[] entries = new Map.Entry[count];
+
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                entries[--count] = Map.entry(optionNames[i], (List<String>) values[i]);
+            }
+        }
+
+        return Map.ofEntries(entries);
+    }
+
+    private Map<String, TypedValues> convert(List<?>[] values) {
+        Map<String, TypedValues> converted = new HashMap<>();
+
+        for (int i = 0; i < values.length; i++) {
+            if (converters[i] == null || values[i] == null) {
+                continue;
+            }
+
+            converted.put(optionNames[i], new TypedValues(optionTypes[i], convert(converters[i], values[i])));
+        }
+
+        return converted;
+    }
+
+    // Null if any of the values is invalid.
+    private static List<?> convert(Function<String, ?> converter, List<?> values) {
+        Object[] converted = new Object[values.size()];
+
+        for (int i = 0; i < converted.length; i++) {
+            if ((converted[i] = converter.apply((String) values.get(i))) == ConverterRegistry.INVALID) {
+                return null;
+            }
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(converted));
+    }
+
+    private Set<String> toSet(boolean[] flags) {
+        int count = 0;
+
+        for (boolean present : flags) {
+            if (present) {
+                count++;
+            }
+        }
+
+        String[] names = new String[count];
+
+        for (int i = 0; i < flags.length; i++) {
+            if (flags[i]) {
+                names[--count] = flagNames[i];
+            }
+        }
+
+        return Set.of(names);
+    }
+
+    private OptionEntry findOption(String argument) {
+        OptionEntry found = null;
+        int hash = 0, limit = Math.min(argument.length(), headLengths.length - 1);
+
+        // Same hash as String#hashCode of the leading characters, the longest matching head wins.
+        for (int i = 0; i < limit; i++) {
+            hash = 31 * hash + argument.charAt(i);
+
+            if (!headLengths[i + 1]) {
+                continue;
+            }
+
+            for (int index = hash & (optionTable.length - 1); optionTable[index] != null; index = (index + 1) & (optionTable.length - 1)) {
+                OptionEntry entry = optionTable[index];
+
+                if (entry.head().length() == i + 1 && argument.startsWith(entry.head())) {
+                    found = entry;
+                    break;
+                }
+            }
+        }
+
+        return found;
+    }
+
+    private static int tableSize(int entries) {
+        int size = 2;
+
+        while (size < entries * 2) {
+            size <<= 1;
+        }
+
+        return size;
+    }
+
+    /**
+     * @param options the values of the options by their key
+     * @param typedOptions the converted values of the present options that declare a type
+     * @param flags the present flags
+     * @param positionals the arguments that are neither options nor flags
+     */
+    public record Result(
+        @NotNull Map<String, List<String>> options,
+        @NotNull Map<String, TypedValues> typedOptions,
+        @NotNull Set<String> flags,
+        @NotNull List<String> positionals
+    ) {
+    }
+
+    /**
+     * @param type the declared type of the option
+     * @param values the converted values, or {@code null} if any of the values is invalid
+     */
+    public record TypedValues(@NotNull Class<?> type, @Nullable List<?> values) {
+    }
+
+    private record OptionEntry(int index, String head, String separator) {
+
+        List<String> values(String argument) {
+            int start = head.length();
+
+            if (separator == null || argument.indexOf(separator, start) < 0) {
+                return Collections.singletonList(argument.substring(start));
+            }
+
+            return split(argument, start, separator);
+        }
+
+        // Same result as String#split with the quoted separator, trailing empty values are removed.
+        private static List<String> split(String argument, int start, String separator) {
+            int count = 1;
+
+            for (int index = argument.indexOf(separator, start); index >= 0; index = argument.indexOf(separator, index + separator.length())) {
+                count++;
+            }
+
+            String[] values = new String[count];
+
+            for (int i = 0; i < count - 1; i++) {
+                int index = argument.indexOf(separator, start);
+                values[i] = argument.substring(start, index);
+                start = index + separator.length();
+            }
+
+            values[count - 1] = argument.substring(start);
+
+            while (count > 0 && values[count - 1].isEmpty()) {
+                count--;
+            }
+
+            return Arrays.asList(count == values.length ? values : Arrays.copyOf(values, count));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.parser;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * A read-only {@link CharSequence} view over a range of a string, created
+ * without copying the characters. {@link #toString()} copies the range.
+ * <p>
+ * Views do not override {@link Object#equals(Object)}, compare them using
+ * {@link String#contentEquals(CharSequence)} or {@link CharSequence#compare(CharSequence, CharSequence)}.
+ *
+ * @author Despical
+ * <p>
+ * Created at 17.10.2026
+ */
+@ApiStatus.Internal
+public final class TextView implements CharSequence {
+
+    private final String text;
+    private final int start;
+    private final int end;
+
+    public TextView(@NotNull String text, int start, int end) {
+        Objects.checkFromToIndex(start, end, text.length());
+
+        this.text = text;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+        Objects.checkIndex(index, end - start);
+        return text.charAt(start + index);
+    }
+
+    @NotNull
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        Objects.checkFromToIndex(start, end, this.end - this.start);
+        return new TextView(text, this.start + start, this.start + end);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return start == end;
+    }
+
+    @NotNull
+    @Override
+    public String toString() {
+        return start == 0 && end == text.length() ? text : text.substring(start, end);
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.parser;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The arguments of a command re-lexed into tokens, where text in double or single
+ * quotes is a single token.
+ * <p>
+ * Bukkit splits the command line at every space, so the arguments are joined once
+ * into a single buffer and the tokens are views over it. A quoted token ends at the
+ * first quote that is followed by a space or the end of the line, so quotes inside
+ * words, such as apostrophes, do not end it. Within quotes,
+ * a backslash escapes the quote character or another backslash, only such tokens
+ * are copied. Quotes that do not enclose a whole token are kept as they are.
+ *
+ * @author Despical
+ * <p>
+ * Created at 17.10.2026
+ */
+@ApiStatus.Internal
+public final class TokenizedArguments {
+
+    private static final TokenizedArguments EMPTY = new TokenizedArguments("", new int[0], new int[0], new int[0], null, 0);
+
+    private final String line;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] rawStarts;
+    private final String[] unescaped;
+    private final int size;
+
+    private TokenizedArguments(String line, int[] starts, int[] ends, int[] rawStarts, String[] unescaped, int size) {
+        this.line = line;
+        this.starts = starts;
+        this.ends = ends;
+        this.rawStarts = rawStarts;
+        this.unescaped = unescaped;
+        this.size = size;
+    }
+
+    /**
+     * Tokenizes the given range of the arguments Bukkit passed.
+     *
+     * @param arguments the array that holds the arguments
+     * @param offset the index of the first argument in the array
+     * @param length the number of arguments
+     * @return the tokens
+     */
+    @NotNull
+    public static TokenizedArguments tokenize(@NotNull String[] arguments, int offset, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+
+        String line = length == 1 ? arguments[offset] : String.join(" ", Arrays.asList(arguments).subList(offset, offset + length));
+
+        // Quotes only merge the arguments Bukkit passed, but arguments passed to the
+        // public constructors of CommandArguments can contain spaces, so the arrays grow.
+        int[] starts = new int[length], ends = new int[length], rawStarts = new int[length];
+        String[] unescaped = null;
+        int size = 0, index = 0, lineLength = line.length();
+
+        while (true) {
+            while (index < lineLength && line.charAt(index) == ' ') {
+                index++;
+            }
+
+            if (index >= lineLength) {
+                break;
+            }
+
+            if (size == starts.length) {
+                int capacity = size * 2;
+
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                rawStarts = Arrays.copyOf(rawStarts, capacity);
+
+                if (unescaped != null) {
+                    unescaped = Arrays.copyOf(unescaped, capacity);
+                }
+            }
+
+            char quote = line.charAt(index);
+
+            if (quote == '"' || quote == '\'') {
+                int closing = findClosingQuote(line, index + 1, quote);
+
+                if (closing >= 0) {
+                    if (containsBackslash(line, index + 1, closing)) {
+                        if (unescaped == null) {
+                            unescaped = new String[starts.length];
+                        }
+
+                        unescaped[size] = unescape(line, index + 1, closing, quote);
+                    }
+
+                    rawStarts[size] = index;
+                    starts[size] = index + 1;
+                    ends[size++] = closing;
+                    index = closing + 1;
+                    continue;
+                }
+            }
+
+            int end = line.indexOf(' ', index);
+            end = end < 0 ? lineLength : end;
+
+            rawStarts[size] = starts[size] = index;
+            ends[size++] = end;
+            index = end;
+        }
+
+        return new TokenizedArguments(line, starts, ends, rawStarts, unescaped, size);
+    }
+
+    // The index of the first quote that is followed by a space or the end of the line, otherwise -1.
+    private static int findClosingQuote(String line, int from, char quote) {
+        for (int i = from, length = line.length(); i < length; i++) {
+            char c = line.charAt(i);
+
+            if (c == '\\' && i + 1 < length && (line.charAt(i + 1) == quote || line.charAt(i + 1) == '\\')) {
+                i++;
+            } else if (c == quote && (i + 1 == length || line.charAt(i + 1) == ' ')) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static boolean containsBackslash(String line, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (line.charAt(i) == '\\') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static String unescape(String line, int start, int end, char quote) {
+        StringBuilder builder = new StringBuilder(end - start);
+
+        for (int i = start; i < end; i++) {
+            char c = line.charAt(i);
+
+            if (c == '\\' && i + 1 < end && (line.charAt(i + 1) == quote || line.charAt(i + 1) == '\\')) {
+                c = line.charAt(++i);
+            }
+
+            builder.append(c);
+        }
+
+        return builder.toString();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index the index of the token
+     * @return the token without its quotes, or {@code null} if the index is out of range
+     */
+    @Nullable
+    public CharSequence get(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+
+        if (unescaped != null && unescaped[index] != null) {
+            return unescaped[index];
+        }
+
+        return new TextView(line, starts[index], ends[index]);
+    }
+
+    /**
+     * Returns the rest of the line as it was typed, starting from the given token,
+     * for greedy arguments such as messages.
+     *
+     * @param index the index of the first token
+     * @return the rest of the line, or {@code null} if the index is out of range
+     */
+    @Nullable
+    public CharSequence remaining(int index) {
+        if (index < 0 || index >= size) {
+            return null;
+        }
+
+        return new TextView(line, rawStarts[index], line.length());
+    }
+
+    /**
+     * @return an unmodifiable list of the tokens
+     */
+    @NotNull
+    public List<CharSequence> asList() {
+        return new Tokens();
+    }
+
+    private final class Tokens extends AbstractList<CharSequence> implements RandomAccess {
+
+        @Override
+        public CharSequence get(int index) {
+            CharSequence token = TokenizedArguments.this.get(index);
+
+            if (token == null) {
+                throw new IndexOutOfBoundsException(index);
+            }
+
+            return token;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
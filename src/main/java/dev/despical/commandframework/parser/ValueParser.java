@@ -0,0 +1,619 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.parser;
+
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/**
+ * Parses command arguments into primitive values without throwing.
+ * <p>
+ * The input is validated by hand before anything is converted, so invalid
+ * input, which is common for commands typed by players, is reported with an
+ * empty result or the given fallback instead of a {@link NumberFormatException}.
+ * None of the methods allocate on failure. Decimals with up to 15 significant
+ * digits and small exponents are converted without creating a string, longer
+ * ones are handed to {@link Double#parseDouble(String)}.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+@ApiStatus.Internal
+public final class ValueParser {
+
+    private static final long INVALID = Long.MIN_VALUE;
+    private static final String MIN_LONG = Long.toString(Long.MIN_VALUE);
+
+    private static final int NOT_DECIMAL = 0, PLAIN = 1, NAN = 2, INFINITY = 3, HEXADECIMAL = 4;
+
+    // Every power of ten up to these is exact in a double and a float respectively.
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    private static final float[] FLOAT_POWERS_OF_TEN = {
+        1e0F, 1e1F, 1e2F, 1e3F, 1e4F, 1e5F, 1e6F, 1e7F, 1e8F, 1e9F, 1e10F
+    };
+
+    private static final Optional<Boolean> TRUE = Optional.of(Boolean.TRUE);
+    private static final Optional<Boolean> FALSE = Optional.of(Boolean.FALSE);
+
+    private static final long SECOND = 1000L;
+    private static final long MINUTE = 60 * SECOND;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+    private static final long WEEK = 7 * DAY;
+
+    private ValueParser() {
+    }
+
+    @Contract(value = "null -> false", pure = true)
+    public static boolean isInt(@Nullable CharSequence input) {
+        return parseIntegral(input, Integer.MIN_VALUE, Integer.MAX_VALUE) != INVALID;
+    }
+
+    @Contract(value = "null -> false", pure = true)
+    public static boolean isLong(@Nullable CharSequence input) {
+        return parseIntegral(input, Long.MIN_VALUE, Long.MAX_VALUE) != INVALID || isMinLong(input);
+    }
+
+    /**
+     * Checks whether the input is a finite decimal number in plain or scientific
+     * notation. Unlike {@link Double#parseDouble(String)}, {@code NaN}, {@code Infinity},
+     * hexadecimal notation, type suffixes and surrounding whitespace are not accepted.
+     *
+     * @param input the input to check
+     * @return true if the input is a decimal number
+     */
+    @Contract(value = "null -> false", pure = true)
+    public static boolean isDouble(@Nullable CharSequence input) {
+        return isDecimal(input) && Double.isFinite(toDouble(input, 0, input.length(), false));
+    }
+
+    /**
+     * Checks whether {@link Double#parseDouble(String)} accepts the input, including
+     * {@code NaN}, {@code Infinity}, hexadecimal notation, type suffixes and surrounding
+     * whitespace. This is the syntax of the methods that parsed decimals with the JDK
+     * before this class existed, such as {@code Utils#getDouble(String)}.
+     *
+     * @param input the input to check
+     * @return true if the input is a decimal number for the JDK
+     */
+    @Contract(value = "null -> false", pure = true)
+    public static boolean isLenientDouble(@Nullable CharSequence input) {
+        return lenientForm(input) != NOT_DECIMAL;
+    }
+
+    @Contract(pure = true)
+    public static int parseInt(@Nullable CharSequence input, int fallback) {
+        long value = parseIntegral(input, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return value != INVALID ? (int) value : fallback;
+    }
+
+    @Contract(pure = true)
+    public static long parseLong(@Nullable CharSequence input, long fallback) {
+        long value = parseIntegral(input, Long.MIN_VALUE, Long.MAX_VALUE);
+        return value != INVALID || isMinLong(input) ? value : fallback;
+    }
+
+    @Contract(pure = true)
+    public static double parseDouble(@Nullable CharSequence input, double fallback) {
+        if (!isDecimal(input)) {
+            return fallback;
+        }
+
+        double value = toDouble(input, 0, input.length(), false);
+        return Double.isFinite(value) ? value : fallback;
+    }
+
+    @Contract(pure = true)
+    public static float parseFloat(@Nullable CharSequence input, float fallback) {
+        if (!isDecimal(input)) {
+            return fallback;
+        }
+
+        float value = (float) toDouble(input, 0, input.length(), true);
+        return Float.isFinite(value) ? value : fallback;
+    }
+
+    /**
+     * Parses the input like {@link Double#parseDouble(String)} without throwing.
+     *
+     * @param input the input to parse
+     * @param fallback the value to return if the input is not a decimal number
+     * @return the parsed value, which may be {@code NaN} or infinite
+     * @see #isLenientDouble(CharSequence)
+     */
+    @Contract(pure = true)
+    public static double parseLenientDouble(@Nullable CharSequence input, double fallback) {
+        return parseLenient(input, fallback, false);
+    }
+
+    /**
+     * Parses the input like {@link Float#parseFloat(String)} without throwing.
+     *
+     * @param input the input to parse
+     * @param fallback the value to return if the input is not a decimal number
+     * @return the parsed value, which may be {@code NaN} or infinite
+     * @see #isLenientDouble(CharSequence)
+     */
+    @Contract(pure = true)
+    public static float parseLenientFloat(@Nullable CharSequence input, float fallback) {
+        return (float) parseLenient(input, fallback, true);
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    public static OptionalInt parseInt(@Nullable CharSequence input) {
+        long value = parseIntegral(input, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return value != INVALID ? OptionalInt.of((int) value) : OptionalInt.empty();
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    public static OptionalLong parseLong(@Nullable CharSequence input) {
+        long value = parseIntegral(input, Long.MIN_VALUE, Long.MAX_VALUE);
+        return value != INVALID || isMinLong(input) ? OptionalLong.of(value) : OptionalLong.empty();
+    }
+
+    @NotNull
+    @Contract(pure = true)
+    public static OptionalDouble parseDouble(@Nullable CharSequence input) {
+        double value = parseDouble(input, Double.NaN);
+        return Double.isNaN(value) ? OptionalDouble.empty() : OptionalDouble.of(value);
+    }
+
+    /**
+     * Parses {@code true/false}, {@code yes/no} and {@code on/off}, ignoring case.
+     *
+     * @param input the input to parse
+     * @return the parsed value, or an empty optional if the input is not a boolean
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static Optional<Boolean> parseBoolean(@Nullable CharSequence input) {
+        if (input == null) {
+            return Optional.empty();
+        }
+
+        if (equalsIgnoreCase(input, "true") || equalsIgnoreCase(input, "yes") || equalsIgnoreCase(input, "on")) {
+            return TRUE;
+        }
+
+        if (equalsIgnoreCase(input, "false") || equalsIgnoreCase(input, "no") || equalsIgnoreCase(input, "off")) {
+            return FALSE;
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Parses a duration such as {@code 1h30m} into milliseconds. Every amount is
+     * followed by one of the units {@code w}, {@code d}, {@code h}, {@code m},
+     * {@code s} or {@code ms}, ignoring case. A single amount without a unit is
+     * read as seconds.
+     *
+     * @param input the input to parse
+     * @return the duration in milliseconds, or an empty optional if the input is not
+     * a duration or does not fit into a long
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static OptionalLong parseDuration(@Nullable CharSequence input) {
+        if (input == null || input.isEmpty()) {
+            return OptionalLong.empty();
+        }
+
+        int length = input.length(), i = 0;
+        long total = 0;
+
+        while (i < length) {
+            int start = i;
+            long amount = 0;
+
+            for (char c; i < length && (c = input.charAt(i)) >= '0' && c <= '9'; i++) {
+                int digit = c - '0';
+
+                if (amount > (Long.MAX_VALUE - digit) / 10) {
+                    return OptionalLong.empty();
+                }
+
+                amount = amount * 10 + digit;
+            }
+
+            if (i == start) {
+                return OptionalLong.empty();
+            }
+
+            long unit;
+
+            if (i == length) {
+                if (start != 0) {
+                    return OptionalLong.empty();
+                }
+
+                unit = SECOND;
+            } else {
+                switch (Character.toLowerCase(input.charAt(i++))) {
+                    case 'w' -> unit = WEEK;
+                    case 'd' -> unit = DAY;
+                    case 'h' -> unit = HOUR;
+                    case 's' -> unit = SECOND;
+                    case 'm' -> {
+                        if (i < length && Character.toLowerCase(input.charAt(i)) == 's') {
+                            i++;
+                            unit = 1;
+                        } else {
+                            unit = MINUTE;
+                        }
+                    }
+                    default -> {
+                        return OptionalLong.empty();
+                    }
+                }
+            }
+
+            if (amount > (Long.MAX_VALUE - total) / unit) {
+                return OptionalLong.empty();
+            }
+
+            total += amount * unit;
+        }
+
+        return OptionalLong.of(total);
+    }
+
+    // Same bounds checking as Long#parseLong, accumulating negatively to cover the minimum value.
+    // Returns INVALID on failure, which can only be a valid result for the minimum long value.
+    private static long parseIntegral(CharSequence input, long min, long max) {
+        if (input == null || input.isEmpty()) {
+            return INVALID;
+        }
+
+        int length = input.length(), i = 0;
+        boolean negative = false;
+        char first = input.charAt(0);
+
+        if (first == '-' || first == '+') {
+            if (length == 1) {
+                return INVALID;
+            }
+
+            negative = first == '-';
+            i++;
+        }
+
+        long limit = negative ? min : -max;
+        long multiplyLimit = limit / 10;
+        long result = 0;
+
+        for (; i < length; i++) {
+            int digit = Character.digit(input.charAt(i), 10);
+
+            if (digit < 0 || result < multiplyLimit) {
+                return INVALID;
+            }
+
+            result *= 10;
+
+            if (result < limit + digit) {
+                return INVALID;
+            }
+
+            result -= digit;
+        }
+
+        return negative ? result : -result;
+    }
+
+    private static boolean isMinLong(CharSequence input) {
+        return input != null && MIN_LONG.contentEquals(input);
+    }
+
+    private static boolean isDecimal(CharSequence input) {
+        return input != null && isDecimal(input, 0, input.length());
+    }
+
+    private static boolean isDecimal(CharSequence input, int from, int to) {
+        if (from == to) {
+            return false;
+        }
+
+        int i = from;
+        char first = input.charAt(i);
+
+        if (first == '-' || first == '+') {
+            i++;
+        }
+
+        int integerDigits = skipDigits(input, i, to);
+        i += integerDigits;
+
+        int fractionDigits = 0;
+
+        if (i < to && input.charAt(i) == '.') {
+            fractionDigits = skipDigits(input, ++i, to);
+            i += fractionDigits;
+        }
+
+        if (integerDigits == 0 && fractionDigits == 0) {
+            return false;
+        }
+
+        if (i < to && (input.charAt(i) == 'e' || input.charAt(i) == 'E')) {
+            if (++i < to && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+                i++;
+            }
+
+            int exponentDigits = skipDigits(input, i, to);
+
+            if (exponentDigits == 0) {
+                return false;
+            }
+
+            i += exponentDigits;
+        }
+
+        return i == to;
+    }
+
+    // The syntax of Double#parseDouble, the input is trimmed like String#trim and may end with a type suffix.
+    private static int lenientForm(CharSequence input) {
+        if (input == null) {
+            return NOT_DECIMAL;
+        }
+
+        int from = trimStart(input), to = trimEnd(input, from);
+
+        if (from == to) {
+            return NOT_DECIMAL;
+        }
+
+        int i = from;
+        char first = input.charAt(i);
+
+        if (first == '-' || first == '+') {
+            i++;
+        }
+
+        if (regionEquals(input, i, to, "NaN")) {
+            return NAN;
+        }
+
+        if (regionEquals(input, i, to, "Infinity")) {
+            return INFINITY;
+        }
+
+        char last = input.charAt(to - 1);
+        int end = last == 'f' || last == 'F' || last == 'd' || last == 'D' ? to - 1 : to;
+
+        if (end - i > 2 && input.charAt(i) == '0' && (input.charAt(i + 1) == 'x' || input.charAt(i + 1) == 'X')) {
+            return isHexadecimal(input, i + 2, end) ? HEXADECIMAL : NOT_DECIMAL;
+        }
+
+        return isDecimal(input, from, end) ? PLAIN : NOT_DECIMAL;
+    }
+
+    private static double parseLenient(CharSequence input, double fallback, boolean single) {
+        int form = lenientForm(input);
+
+        if (form == NOT_DECIMAL) {
+            return fallback;
+        }
+
+        int from = trimStart(input), to = trimEnd(input, from);
+        boolean negative = input.charAt(from) == '-';
+
+        return switch (form) {
+            case NAN -> Double.NaN;
+            case INFINITY -> negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+            case HEXADECIMAL -> single ? Float.parseFloat(input.toString()) : Double.parseDouble(input.toString());
+            default -> {
+                char last = input.charAt(to - 1);
+                yield toDouble(input, from, last > '9' ? to - 1 : to, single);
+            }
+        };
+    }
+
+    private static boolean isHexadecimal(CharSequence input, int from, int to) {
+        int i = from;
+        int integerDigits = skipHexDigits(input, i, to);
+        i += integerDigits;
+
+        int fractionDigits = 0;
+
+        if (i < to && input.charAt(i) == '.') {
+            fractionDigits = skipHexDigits(input, ++i, to);
+            i += fractionDigits;
+        }
+
+        if (integerDigits == 0 && fractionDigits == 0 || i == to || (input.charAt(i) != 'p' && input.charAt(i) != 'P')) {
+            return false;
+        }
+
+        if (++i < to && (input.charAt(i) == '-' || input.charAt(i) == '+')) {
+            i++;
+        }
+
+        int exponentDigits = skipDigits(input, i, to);
+        return exponentDigits > 0 && i + exponentDigits == to;
+    }
+
+    /**
+     * Converts a validated plain decimal. A mantissa that fits into the significand
+     * and a power of ten that is exact give a correctly rounded result with a single
+     * multiplication or division, other inputs are converted by the JDK.
+     */
+    private static double toDouble(CharSequence input, int from, int to, boolean single) {
+        int i = from;
+        char first = input.charAt(i);
+        boolean negative = first == '-';
+
+        if (negative || first == '+') {
+            i++;
+        }
+
+        long mantissa = 0, mantissaLimit = single ? 1L << 24 : 1L << 53;
+        int exponent = 0;
+        boolean fraction = false;
+
+        for (; i < to; i++) {
+            char c = input.charAt(i);
+
+            if (c == '.') {
+                fraction = true;
+                continue;
+            }
+
+            if (c == 'e' || c == 'E') {
+                break;
+            }
+
+            mantissa = mantissa * 10 + (c - '0');
+
+            if (mantissa > mantissaLimit) {
+                return parseWithJdk(input, from, to, single);
+            }
+
+            if (fraction) {
+                exponent--;
+            }
+        }
+
+        if (i < to) {
+            char sign = input.charAt(++i);
+            boolean negativeExponent = sign == '-';
+
+            if (negativeExponent || sign == '+') {
+                i++;
+            }
+
+            int value = 0;
+
+            for (; i < to; i++) {
+                value = value * 10 + (input.charAt(i) - '0');
+
+                if (value > 1000) {
+                    return parseWithJdk(input, from, to, single);
+                }
+            }
+
+            exponent += negativeExponent ? -value : value;
+        }
+
+        int maxExponent = single ? FLOAT_POWERS_OF_TEN.length - 1 : POWERS_OF_TEN.length - 1;
+
+        if (exponent < -maxExponent || exponent > maxExponent) {
+            return parseWithJdk(input, from, to, single);
+        }
+
+        double value;
+
+        if (single) {
+            float floatMantissa = mantissa;
+            value = exponent >= 0 ? floatMantissa * FLOAT_POWERS_OF_TEN[exponent] : floatMantissa / FLOAT_POWERS_OF_TEN[-exponent];
+        } else {
+            double doubleMantissa = mantissa;
+            value = exponent >= 0 ? doubleMantissa * POWERS_OF_TEN[exponent] : doubleMantissa / POWERS_OF_TEN[-exponent];
+        }
+
+        return negative ? -value : value;
+    }
+
+    private static double parseWithJdk(CharSequence input, int from, int to, boolean single) {
+        String text = input.subSequence(from, to).toString();
+        return single ? Float.parseFloat(text) : Double.parseDouble(text);
+    }
+
+    private static int skipDigits(CharSequence input, int from, int to) {
+        int i = from;
+
+        while (i < to && input.charAt(i) >= '0' && input.charAt(i) <= '9') {
+            i++;
+        }
+
+        return i - from;
+    }
+
+    private static int skipHexDigits(CharSequence input, int from, int to) {
+        int i = from;
+
+        while (i < to && Character.digit(input.charAt(i), 16) >= 0 && input.charAt(i) < 128) {
+            i++;
+        }
+
+        return i - from;
+    }
+
+    private static int trimStart(CharSequence input) {
+        int i = 0;
+
+        while (i < input.length() && input.charAt(i) <= ' ') {
+            i++;
+        }
+
+        return i;
+    }
+
+    private static int trimEnd(CharSequence input, int from) {
+        int i = input.length();
+
+        while (i > from && input.charAt(i - 1) <= ' ') {
+            i--;
+        }
+
+        return i;
+    }
+
+    private static boolean regionEquals(CharSequence input, int from, int to, String expected) {
+        if (to - from != expected.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < expected.length(); i++) {
+            if (input.charAt(from + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean equalsIgnoreCase(CharSequence input, String expected) {
+        if (input.length() != expected.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < expected.length(); i++) {
+            if (Character.toLowerCase(input.charAt(i)) != expected.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -18,10 +18,9 @@
 
 package dev.despical.commandframework.utils;
 
-import dev.despical.commandframework.annotations.Command;
+import dev.despical.commandframework.parser.ValueParser;
 import org.jetbrains.annotations.ApiStatus;
 
-import java.lang.annotation.Annotation;
 import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Map;
@@ -48,11 +47,7 @@ public final class Utils {
 	 * @return the int represented by the string, or zero if conversion fails
 	 */
 	public static int getInt(String string) {
-		try {
-			return Integer.parseInt(string);
-		} catch (Exception ignored) {
-			return 0;
-		}
+		return ValueParser.parseInt(string, 0);
 	}
 
 	/**
@@ -63,11 +58,7 @@ public final class Utils {
 	 * @return the double represented by the string, or zero if conversion fails
 	 */
 	public static double getDouble(String string) {
-		try {
-			return Double.parseDouble(string);
-		} catch (Exception ignored) {
-			return 0d;
-		}
+		return ValueParser.parseLenientDouble(string, 0d);
 	}
 
 	/**
@@ -78,11 +69,7 @@ public final class Utils {
 	 * @return the long represented by the string, or zero if conversion fails
 	 */
 	public static long getLong(String string) {
-		try {
-			return Long.parseLong(string);
-		} catch (Exception ignored) {
-			return 0L;
-		}
+		return ValueParser.parseLong(string, 0L);
 	}
 
 	/**
@@ -93,11 +80,7 @@ public final class Utils {
 	 * @return the float represented by the string, or zero if conversion fails
 	 */
 	public static float getFloat(String string) {
-		try {
-			return Float.parseFloat(string);
-		} catch (Exception ignored) {
-			return 0F;
-		}
+		return ValueParser.parseLenientFloat(string, 0F);
 	}
 
 	/**
@@ -149,38 +132,4 @@ public final class Utils {
 
 		cause.printStackTrace();
 	}
-
-    public static Command createDummy(final Command command, final String commandName) {
-        return new Command() {
-            public String name() { return commandName; }
-            public String fallbackPrefix() { return command.fallbackPrefix(); }
-            public String permission() { return command.permission(); }
-            public String[] aliases() { return new String[0]; }
-            public String desc() { return command.desc(); }
-            public String usage() { return command.usage(); }
-            public int min() { return command.min(); }
-            public int max() { return command.max(); }
-            public boolean onlyOp() { return command.onlyOp(); }
-            public boolean async() { return command.async(); }
-            public SenderType senderType() { return command.senderType(); }
-            public Class<? extends Annotation> annotationType() { return Command.class; }
-        };
-    }
-
-    public static Command createDummy(final String commandName) {
-        return new Command() {
-            public String name() { return commandName; }
-            public String fallbackPrefix() { return ""; }
-            public String permission() { return ""; }
-            public String[] aliases() { return new String[0]; }
-            public String desc() { return ""; }
-            public String usage() { return ""; }
-            public int min() { return 0; }
-            public int max() { return -1; }
-            public boolean onlyOp() { return false; }
-            public boolean async() { return false; }
-            public SenderType senderType() { return SenderType.BOTH; }
-            public Class<? extends Annotation> annotationType() { return Command.class; }
-        };
-    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.test;
+
+import dev.despical.commandframework.internal.AsyncCommandExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the concurrency limit and the shutdown of the executor of
+ * asynchronous commands.
+ *
+ * @author Despical
+ * <p>
+ * Created at 17.10.2026
+ */
+class AsyncCommandExecutorTest {
+
+	private static final int TASKS = 8;
+
+	@Test
+	void testConcurrencyLimitIsNeverExceeded() throws InterruptedException {
+		AsyncCommandExecutor executor = new AsyncCommandExecutor(2);
+		AtomicInteger running = new AtomicInteger(), maxRunning = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1), done = new CountDownLatch(TASKS);
+
+		for (int i = 0; i < TASKS; i++) {
+			executor.execute(() -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+				try {
+					release.await();
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+				} finally {
+					running.decrementAndGet();
+					done.countDown();
+				}
+			});
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+		while (running.get() < 2 && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+
+		// Give the other tasks the chance to exceed the limit.
+		Thread.sleep(50);
+		assertEquals(2, running.get());
+
+		release.countDown();
+
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertEquals(2, maxRunning.get());
+		assertTrue(executor.shutdown(5000));
+	}
+
+	@Test
+	void testShutdownWithoutTimeoutDoesNotWait() throws InterruptedException {
+		AsyncCommandExecutor executor = new AsyncCommandExecutor(-1);
+		CountDownLatch started = new CountDownLatch(1), release = new CountDownLatch(1), done = new CountDownLatch(1);
+
+		executor.execute(() -> {
+			started.countDown();
+
+			try {
+				release.await();
+				done.countDown();
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertFalse(executor.shutdown(0));
+		assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+
+		// The running command is not interrupted.
+		release.countDown();
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void testShutdownWaitsForRunningCommands() throws InterruptedException {
+		AsyncCommandExecutor executor = new AsyncCommandExecutor(-1);
+		AtomicBoolean completed = new AtomicBoolean();
+		CountDownLatch started = new CountDownLatch(1);
+
+		executor.execute(() -> {
+			started.countDown();
+
+			try {
+				Thread.sleep(50);
+				completed.set(true);
+			} catch (InterruptedException exception) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertTrue(executor.shutdown(5000));
+		assertTrue(completed.get());
+	}
+
+	@Test
+	void testShutdownInterruptsCommandsAfterTheTimeout() throws InterruptedException {
+		AsyncCommandExecutor executor = new AsyncCommandExecutor(-1);
+		CountDownLatch started = new CountDownLatch(1), interrupted = new CountDownLatch(1);
+
+		executor.execute(() -> {
+			started.countDown();
+
+			try {
+				new CountDownLatch(1).await();
+			} catch (InterruptedException exception) {
+				interrupted.countDown();
+			}
+		});
+
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		assertFalse(executor.shutdown(50));
+		assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+	}
+}
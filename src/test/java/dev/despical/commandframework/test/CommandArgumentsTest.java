@@ -0,0 +1,209 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.test;
+
+import dev.despical.commandframework.CommandArguments;
+import dev.despical.commandframework.exceptions.CommandException;
+import dev.despical.commandframework.parser.ValueParser;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+class CommandArgumentsTest {
+
+	private static final int ITERATIONS = 100_000;
+
+	private static CommandArguments view(String[] args, int offset) {
+		return new CommandArguments(null, null, null, "label", args, offset, args.length - offset);
+	}
+
+	@Test
+	void testViewSkipsTheSubCommandPath() {
+		String[] args = {"sub", "first", "second", "third"};
+		CommandArguments arguments = view(args, 1);
+
+		assertEquals(3, arguments.getLength());
+		assertEquals("first", arguments.getFirst());
+		assertEquals("third", arguments.getLast());
+		assertNull(arguments.getArgument(3));
+		assertEquals("fallback", arguments.getArgument(-1, "fallback"));
+		assertEquals(List.of("first", "second", "third"), arguments.getArgumentList());
+		assertEquals("first second third", arguments.concatArguments());
+		assertEquals("second third", arguments.concatRangeOf(1, 3));
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> arguments.concatRangeOf(0, 4));
+	}
+
+	@Test
+	void testSubArgumentsAndCopiesDoNotAffectTheView() {
+		String[] args = {"sub", "first", "second", "third"};
+		CommandArguments arguments = view(args, 1);
+		CommandArguments subArguments = arguments.subArguments(1, 3);
+
+		assertEquals(2, subArguments.getLength());
+		assertEquals("second", subArguments.getFirst());
+		assertEquals("second third", subArguments.concatArguments());
+		assertThrows(IndexOutOfBoundsException.class, () -> arguments.subArguments(2, 4));
+
+		String[] copy = arguments.getArguments();
+		copy[0] = "changed";
+
+		assertArrayEquals(new String[] {"first", "second", "third"}, arguments.getArguments());
+		assertThrows(UnsupportedOperationException.class, () -> arguments.getArgumentList().set(0, "changed"));
+	}
+
+	@Test
+	void testOptionsAreEmptyWithoutOptionsDeclared() {
+		CommandArguments arguments = view(new String[] {"sub", "--verbose", "--players=berke"}, 1);
+
+		assertFalse(arguments.isFlagPresent("verbose"));
+		assertNull(arguments.getOption("players"));
+		assertTrue(arguments.findOption("players").isEmpty());
+		assertEquals(List.of("--verbose", "--players=berke"), arguments.getPositionalArguments());
+	}
+
+	@Test
+	void testQuotedTextIsASingleToken() {
+		CommandArguments arguments = view(new String[] {"mail", "send", "Bob", "\"hello", "", "there\"", "'it''s", "fine'"}, 1);
+
+		assertEquals(List.of("send", "Bob", "hello  there", "it''s fine"), toStrings(arguments.getTokens()));
+		assertEquals("\"hello  there\" 'it''s fine'", arguments.getRemainingText(2).toString());
+		assertNull(arguments.getToken(4));
+		assertNull(arguments.getRemainingText(4));
+	}
+
+	@Test
+	void testQuotesThatDoNotEncloseATokenAreKept() {
+		assertEquals(List.of("\"unterminated", "don't"), toStrings(view(new String[] {"\"unterminated", "don't"}, 0).getTokens()));
+		assertEquals(List.of("\"a\"b", "c"), toStrings(view(new String[] {"\"a\"b", "c"}, 0).getTokens()));
+
+		CommandArguments arguments = view(new String[] {"\"say", "\\\"hi\\\"\"", "42"}, 0);
+
+		assertEquals(List.of("say \"hi\"", "42"), toStrings(arguments.getTokens()));
+		assertEquals(42, ValueParser.parseInt(arguments.getToken(1), 0));
+	}
+
+	@Test
+	void testArgumentsContainingSpacesAreSplitIntoTokens() {
+		CommandArguments arguments = view(new String[] {"a b c d", "\"e f\" g"}, 0);
+
+		assertEquals(List.of("a", "b", "c", "d", "e f", "g"), toStrings(arguments.getTokens()));
+		assertEquals("g", arguments.getToken(5).toString());
+		assertEquals(List.of("x'y", "b", "c"), toStrings(view(new String[] {"'x\\'y' b", "c"}, 0).getTokens()));
+	}
+
+	@Test
+	void testMemoizedNullIsNotLoadedAgain() {
+		CommandArguments arguments = view(new String[0], 0);
+		AtomicInteger calls = new AtomicInteger();
+		Function<CommandArguments, Object> loader = ignored -> {
+			calls.incrementAndGet();
+			return null;
+		};
+
+		assertNull(arguments.memoize("key", loader));
+		assertNull(arguments.memoize("key", loader));
+		assertEquals(1, calls.get());
+
+		assertNull(view(new String[0], 0).memoize("key", loader));
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	void testCopiesShareMemoizedValues() {
+		CommandArguments arguments = view(new String[0], 0);
+		CommandArguments copy = new CommandArguments(arguments);
+		CommandArguments subArguments = arguments.subArguments(0, 0);
+		AtomicInteger calls = new AtomicInteger();
+		Function<CommandArguments, Object> loader = ignored -> calls.incrementAndGet();
+
+		assertEquals(1, copy.memoize("key", loader));
+		assertEquals(1, arguments.memoize("key", loader));
+		assertEquals(1, subArguments.memoize("key", loader));
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	void testRecursiveMemoizationFailsWithACircularDependency() {
+		CommandArguments arguments = view(new String[0], 0);
+		Function<CommandArguments, Object> loader = new Function<>() {
+
+			@Override
+			public Object apply(CommandArguments value) {
+				return value.memoize("key", this);
+			}
+		};
+
+		CommandException exception = assertThrows(CommandException.class, () -> arguments.memoize("key", loader));
+		assertTrue(exception.getMessage().contains("Circular dependency"), exception.getMessage());
+
+		// The failed key is not left in a resolving state.
+		assertEquals("value", arguments.memoize("key", ignored -> "value"));
+	}
+
+	private static List<String> toStrings(List<CharSequence> tokens) {
+		return tokens.stream().map(CharSequence::toString).toList();
+	}
+
+	@Test
+	void testArgumentViewDoesNotCopyTheArguments() {
+		var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+
+		String[] args = new String[257];
+
+		for (int i = 0; i < args.length; i++) {
+			args[i] = "argument" + i;
+		}
+
+		long threadId = Thread.currentThread().threadId();
+		long checksum = 0;
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			checksum += readArguments(args);
+		}
+
+		long before = threadBean.getThreadAllocatedBytes(threadId);
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			checksum += readArguments(args);
+		}
+
+		long bytesPerDispatch = (threadBean.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+
+		assertTrue(checksum > 0);
+		// Copying the 256 arguments alone would take more than a kilobyte.
+		assertTrue(bytesPerDispatch < 128, "Allocated " + bytesPerDispatch + " bytes per dispatch");
+	}
+
+	private static int readArguments(String[] args) {
+		CommandArguments arguments = view(args, 1);
+		return arguments.getLength() + arguments.getFirst().length() + arguments.getLast().length() + arguments.getArgument(128, "").length();
+	}
+}
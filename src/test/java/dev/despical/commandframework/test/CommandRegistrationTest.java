@@ -25,6 +25,8 @@ import be.seeseemelk.mockbukkit.entity.PlayerMock;
 import dev.despical.commandframework.CommandErrorMessage;
 import dev.despical.commandframework.CommandArguments;
 import dev.despical.commandframework.CommandFramework;
+import dev.despical.commandframework.CompleterHelper;
+import dev.despical.commandframework.SenderClass;
 import dev.despical.commandframework.annotations.*;
 import dev.despical.commandframework.exceptions.CommandException;
 import dev.despical.commandframework.internal.MessageHelper;
@@ -38,10 +40,21 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -143,6 +156,196 @@ class CommandRegistrationTest {
 		player.assertSaid("Parsed Options: mrdespi, Despical");
 	}
 
+	@Test
+	void testConsoleSkipsCooldownAndIsCountedSeparately() {
+		CommandFramework commandFramework = createCommandFramework();
+		var console = server.getConsoleSender();
+
+		assertTrue(server.dispatchCommand(console, "cooldown"));
+		assertTrue(server.dispatchCommand(console, "cooldown"));
+		console.assertSaid("Cooldown command message.");
+		console.assertSaid("Cooldown command message.");
+
+		assertEquals(2, commandFramework.getExecutionCount(SenderClass.CONSOLE));
+		assertEquals(0, commandFramework.getExecutionCount(SenderClass.PLAYER));
+	}
+
+	@Test
+	void testAliasSharesTheCooldownOfItsCommand() {
+		createCommandFramework();
+		PlayerMock player = server.addPlayer();
+
+		player.performCommand("cooldown");
+		player.assertSaid("Cooldown command message.");
+
+		player.performCommand("cooldownalias");
+		player.assertSaid("§cYou have to wait before using this command again!");
+
+		PlayerMock other = server.addPlayer();
+
+		other.performCommand("cooldownalias");
+		other.assertSaid("Cooldown command message.");
+
+		other.performCommand("cooldown");
+		other.assertSaid("§cYou have to wait before using this command again!");
+	}
+
+	@Test
+	void testSharedProviderIsCalledOncePerExecution() {
+		CommandFramework commandFramework = new CommandFrameworkMock(plugin);
+		AtomicInteger calls = new AtomicInteger();
+		commandFramework.addCustomParameter(Counter.class, arguments -> new Counter(calls.incrementAndGet()));
+		commandFramework.registerCommands(new MemoizedParameterCommand());
+		PlayerMock player = server.addPlayer();
+
+		assertTrue(player.performCommand("memoized"));
+		player.assertSaid("Same counter: true, value: 1");
+
+		assertTrue(player.performCommand("memoized"));
+		player.assertSaid("Same counter: true, value: 2");
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	void testWarmUpDoesNotCallCommandsOrProviders() {
+		CommandFramework commandFramework = new CommandFrameworkMock(plugin);
+		AtomicInteger calls = new AtomicInteger();
+		List<LogRecord> records = new ArrayList<>();
+		Handler handler = new Handler() {
+
+			@Override
+			public void publish(LogRecord record) {
+				records.add(record);
+			}
+
+			@Override
+			public void flush() {
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+
+		commandFramework.addCustomParameter(Counter.class, arguments -> new Counter(calls.incrementAndGet()));
+		commandFramework.options().enableOption(FrameworkOption.WARM_UP);
+		commandFramework.getLogger().addHandler(handler);
+
+		try {
+			commandFramework.registerCommands(new WarmUpCommand());
+		} finally {
+			commandFramework.getLogger().removeHandler(handler);
+		}
+
+		assertEquals(0, calls.get());
+		assertTrue(records.stream().noneMatch(record -> record.getLevel() == Level.WARNING));
+		assertTrue(records.stream().anyMatch(record -> record.getMessage().startsWith("Warmed up 2 of 2 commands and completers")));
+
+		PlayerMock player = server.addPlayer();
+
+		assertTrue(player.performCommand("warmup --times=2"));
+		player.assertSaid("Counter: 1, times: 2");
+	}
+
+	@Test
+	void testProvidersOfTypesWithTheSameSimpleNameDoNotCollide() {
+		CommandFramework commandFramework = new CommandFrameworkMock(plugin);
+		commandFramework.addCustomParameter(Lobby.Arena.class, arguments -> new Lobby.Arena("lobby"));
+		commandFramework.addCustomParameter(Game.Arena.class, arguments -> new Game.Arena("game"));
+		commandFramework.registerCommands(new ArenaCommand());
+		PlayerMock player = server.addPlayer();
+
+		assertTrue(player.performCommand("arena"));
+		player.assertSaid("Lobby: lobby, game: game");
+
+		// The simple name no longer tells the two providers apart.
+		assertThrows(CommandException.class, () -> commandFramework.registerCommands(new AmbiguousArenaCommand()));
+	}
+
+	@Test
+	void testSimpleNameQualifierResolvesProviderRegisteredByType() {
+		CommandFramework commandFramework = new CommandFrameworkMock(plugin);
+		commandFramework.addCustomParameter(Counter.class, arguments -> new Counter(7));
+		commandFramework.registerCommands(new SimpleNameParameterCommand());
+		PlayerMock player = server.addPlayer();
+
+		assertTrue(player.performCommand("counter"));
+		player.assertSaid("Counter: 7");
+	}
+
+	@Test
+	void testProvidersAddedAfterRegistrationApplyToLaterCommands() {
+		CommandFramework commandFramework = new CommandFrameworkMock(plugin);
+		commandFramework.addCustomParameter(Counter.class, arguments -> new Counter(1));
+		commandFramework.registerCommands(new MemoizedParameterCommand());
+
+		commandFramework.addCustomParameter(Stats.class, arguments -> new Stats("Despical"));
+		commandFramework.registerCommands(new StatsCommand());
+
+		PlayerMock player = server.addPlayer();
+
+		assertTrue(player.performCommand("memoized"));
+		player.assertSaid("Same counter: true, value: 1");
+
+		assertTrue(player.performCommand("latestats"));
+		player.assertSaid("Stats of Despical");
+
+		assertThrows(CommandException.class, () -> commandFramework.addCustomParameter(Stats.class, arguments -> new Stats("Despical")));
+	}
+
+	@Test
+	void testAsyncParameterIsInjectedOnTheMainThread() throws InterruptedException {
+		CompletableFuture<Stats> stats = new CompletableFuture<>();
+		createAsyncParameterFramework(stats);
+		PlayerMock player = server.addPlayer();
+
+		assertTrue(player.performCommand("stats"));
+		player.assertNoMoreSaid();
+
+		Thread loader = new Thread(() -> stats.complete(new Stats("Despical")));
+		loader.start();
+		loader.join();
+
+		assertEquals("Stats of Despical, primary thread: true", awaitMessage(player));
+	}
+
+	@Test
+	void testFailedAsyncParameterSendsFailureMessage() throws InterruptedException {
+		createAsyncParameterFramework(CompletableFuture.failedFuture(new IllegalStateException("Database is offline")));
+		PlayerMock player = server.addPlayer();
+
+		assertTrue(player.performCommand("stats"));
+		assertEquals("§cAn error occurred while loading this command, please try again later!", awaitMessage(player));
+		player.assertNoMoreSaid();
+	}
+
+	@Test
+	void testTimedOutAsyncParameterSendsTimeoutMessage() throws InterruptedException {
+		CompletableFuture<Stats> stats = new CompletableFuture<>();
+		CommandFramework commandFramework = createAsyncParameterFramework(stats);
+		commandFramework.options().setAsyncParameterTimeout(20, TimeUnit.MILLISECONDS);
+		PlayerMock player = server.addPlayer();
+
+		assertTrue(player.performCommand("stats"));
+		assertEquals("§cThis command took too long to load, please try again later!", awaitMessage(player));
+		player.assertNoMoreSaid();
+		assertTrue(stats.isCancelled());
+	}
+
+	@Test
+	void testCompleterOnlyReceivesLoadedAsyncParameters() {
+		CompletableFuture<Stats> stats = new CompletableFuture<>();
+		CommandFramework commandFramework = createAsyncParameterFramework(stats);
+		PlayerMock player = server.addPlayer();
+		PluginCommand command = Bukkit.getPluginCommand("stats");
+
+		assertEquals(List.of(), commandFramework.onTabComplete(player, command, "stats", new String[] {""}));
+
+		stats.complete(new Stats("Despical"));
+
+		assertEquals(List.of("Despical"), commandFramework.onTabComplete(player, command, "stats", new String[] {""}));
+	}
+
 	@Test
 	void testRegisteredCommandAttributesCanBeUpdated() {
 		CommandFramework commandFramework = createCommandFramework();
@@ -167,6 +370,21 @@ class CommandRegistrationTest {
 		player.assertSaid("/updated-example");
 	}
 
+	@Test
+	void testChangedFallbackPrefixReregistersTheCommand() {
+		CommandFramework commandFramework = createCommandFramework();
+
+		assertTrue(commandFramework.updateCommandAttributes("example", attributes -> attributes.fallbackPrefix("updated")));
+
+		Map<String, org.bukkit.command.Command> knownCommands = server.getCommandMap().getKnownCommands();
+		PluginCommand bukkitCommand = Bukkit.getPluginCommand("example");
+
+		assertSame(bukkitCommand, knownCommands.get("updated:example"));
+		assertTrue(knownCommands.entrySet().stream()
+			.filter(entry -> entry.getValue() == bukkitCommand)
+			.allMatch(entry -> entry.getKey().equals("example") || entry.getKey().equals("updated:example")));
+	}
+
 	@Test
 	void testRegisteredCommandCanBeRenamedWithoutTouchingOtherCommands() {
 		CommandFramework commandFramework = createCommandFramework();
@@ -192,6 +410,48 @@ class CommandRegistrationTest {
 		player.assertSaid("This is how you can create a example command using framework.");
 	}
 
+	@Test
+	void testBatchedRegistrationIsAppliedAtTheEnd() {
+		CommandFramework commandFramework = createCommandFramework();
+
+		commandFramework.batch(() -> {
+			commandFramework.registerCommands(new BatchCommand());
+			commandFramework.unregisterCommand("flag");
+
+			assertNull(Bukkit.getPluginCommand("batch"));
+			assertNotNull(Bukkit.getPluginCommand("flag"));
+		});
+
+		assertNotNull(Bukkit.getPluginCommand("batch"));
+		assertNull(Bukkit.getPluginCommand("flag"));
+	}
+
+	@Test
+	void testFailedBatchIsRolledBack() {
+		CommandFramework commandFramework = createCommandFramework();
+
+		assertThrows(IllegalStateException.class, () -> commandFramework.batch(() -> {
+			commandFramework.registerCommands(new BatchCommand());
+			commandFramework.unregisterCommand("flag");
+
+			throw new IllegalStateException("Failed batch");
+		}));
+
+		assertNull(Bukkit.getPluginCommand("batch"));
+		assertNotNull(Bukkit.getPluginCommand("flag"));
+
+		// The next commit must not publish the changes of the failed batch either.
+		commandFramework.unregisterCommand("cooldown");
+
+		assertNull(Bukkit.getPluginCommand("batch"));
+		assertNotNull(Bukkit.getPluginCommand("flag"));
+
+		PlayerMock player = server.addPlayer();
+
+		assertTrue(player.performCommand("flag --test"));
+		player.assertSaid("Flag Present: true");
+	}
+
 	@Test
 	void testCommandAttributeUpdateRejectsInvalidArgumentBounds() {
 		CommandFramework commandFramework = createCommandFramework();
@@ -310,6 +570,30 @@ class CommandRegistrationTest {
 		MockBukkit.unmock();
 	}
 
+	@NotNull
+	private CommandFramework createAsyncParameterFramework(CompletableFuture<Stats> stats) {
+		CommandFramework commandFramework = new CommandFrameworkMock(plugin);
+		commandFramework.addAsyncParameter(Stats.class, arguments -> stats);
+		commandFramework.registerCommands(new AsyncParameterCommand());
+		return commandFramework;
+	}
+
+	/**
+	 * Runs the scheduler until the player receives a message, the main thread
+	 * tasks are only executed on a tick.
+	 */
+	private String awaitMessage(PlayerMock player) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		String message;
+
+		while ((message = player.nextMessage()) == null && System.nanoTime() < deadline) {
+			server.getScheduler().performOneTick();
+			Thread.sleep(5);
+		}
+
+		return message;
+	}
+
 	/**
 	 * @return a {@link CommandFramework} instance with an example command.
 	 */
@@ -359,7 +643,8 @@ class CommandRegistrationTest {
 		}
 
 		@Command(
-			name = "cooldown"
+			name = "cooldown",
+			aliases = "cooldownalias"
 		)
 		@Cooldown(
 			value = 5
@@ -421,6 +706,15 @@ class CommandRegistrationTest {
 		}
 	}
 
+	public static class BatchCommand {
+
+		@Command(
+			name = "batch"
+		)
+		public void batchCommand(CommandArguments arguments) {
+		}
+	}
+
 	public static class InvalidCommandMetadata {
 
 		@Command(
@@ -483,4 +777,110 @@ class CommandRegistrationTest {
 			arguments.sendMessage("hidden");
 		}
 	}
+
+	public record Stats(String name) {
+	}
+
+	public static class AsyncParameterCommand {
+
+		@Command(
+			name = "stats"
+		)
+		public void statsCommand(CommandArguments arguments, Stats stats) {
+			arguments.sendMessage("Stats of " + stats.name() + ", primary thread: " + Bukkit.isPrimaryThread());
+		}
+
+		@Completer(
+			name = "stats"
+		)
+		public List<String> statsCompleter(Stats stats) {
+			return List.of(stats.name());
+		}
+	}
+
+	public static class StatsCommand {
+
+		@Command(
+			name = "latestats"
+		)
+		public void statsCommand(CommandArguments arguments, Stats stats) {
+			arguments.sendMessage("Stats of " + stats.name());
+		}
+	}
+
+	public record Counter(int value) {
+	}
+
+	public static class MemoizedParameterCommand {
+
+		@Command(
+			name = "memoized"
+		)
+		public void memoizedCommand(CommandArguments arguments, Counter first, Counter second) {
+			arguments.sendMessage("Same counter: " + (first == second) + ", value: " + first.value());
+		}
+	}
+
+	public static class WarmUpCommand {
+
+		@Option(
+			value = "times",
+			prefix = "--"
+		)
+		@Command(
+			name = "warmup"
+		)
+		public void warmUpCommand(CommandArguments arguments, Counter counter) {
+			arguments.sendMessage("Counter: " + counter.value() + ", times: " + arguments.getOption("times").get(0));
+		}
+
+		@Completer(
+			name = "warmup"
+		)
+		public List<String> warmUpCompleter(CompleterHelper helper) {
+			return helper.copyMatches(0, List.of("first", "second"));
+		}
+	}
+
+	public static class SimpleNameParameterCommand {
+
+		@Command(
+			name = "counter"
+		)
+		public void counterCommand(CommandArguments arguments, @Param("Counter") Counter counter) {
+			arguments.sendMessage("Counter: " + counter.value());
+		}
+	}
+
+	public static class Lobby {
+
+		public record Arena(String name) {
+		}
+	}
+
+	public static class Game {
+
+		public record Arena(String name) {
+		}
+	}
+
+	public static class ArenaCommand {
+
+		@Command(
+			name = "arena"
+		)
+		public void arenaCommand(CommandArguments arguments, Lobby.Arena lobby, Game.Arena game) {
+			arguments.sendMessage("Lobby: " + lobby.name() + ", game: " + game.name());
+		}
+	}
+
+	public static class AmbiguousArenaCommand {
+
+		@Command(
+			name = "ambiguousarena"
+		)
+		public void ambiguousArenaCommand(CommandArguments arguments, @Param("Arena") Lobby.Arena arena) {
+			arguments.sendMessage("Arena: " + arena.name());
+		}
+	}
 }
@@ -0,0 +1,179 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.test;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.MockPlugin;
+import dev.despical.commandframework.CommandArguments;
+import dev.despical.commandframework.CommandFramework;
+import dev.despical.commandframework.annotations.Command;
+import dev.despical.commandframework.internal.CommandRegistry;
+import dev.despical.commandframework.internal.FrameworkContext;
+import dev.despical.commandframework.internal.RegisteredMember;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Looks up commands from several threads while the command tree is
+ * being modified, lookups must always see a consistent tree.
+ *
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+class CommandTrieConcurrencyTest {
+
+	private static final int READERS = 4;
+	private static final int ITERATIONS = 500;
+
+	private MockPlugin plugin;
+
+	@BeforeAll
+	static void beforeAll() {
+		System.setProperty("commandframework.suppress.relocation", "true");
+		System.setProperty("commandframework.suppress.initialization", "true");
+	}
+
+	@BeforeEach
+	void setUp() {
+		MockBukkit.mock();
+		plugin = MockBukkit.createMockPlugin("CommandFramework");
+	}
+
+	@AfterEach
+	void tearDown() {
+		MockBukkit.unmock();
+	}
+
+	@Test
+	void testLookupsDuringRegistrationChurn() throws InterruptedException {
+		CommandFramework commandFramework = new CommandFrameworkMock(plugin);
+		commandFramework.registerCommands(new StableCommand());
+
+		CommandRegistry.CommandMatcher matcher = FrameworkContext.getInstance().getRegistry().getCommandMatcher();
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		AtomicLong lookups = new AtomicLong();
+		CountDownLatch started = new CountDownLatch(READERS);
+		List<Thread> readers = new ArrayList<>();
+
+		for (int i = 0; i < READERS; i++) {
+			Thread reader = new Thread(() -> {
+				started.countDown();
+
+				try {
+					while (running.get()) {
+						RegisteredMember<Command> stable = matcher.getMatch("stable", new String[] {"sub", "arg"});
+
+						assertEquals("stable.sub", stable.annotation().name());
+						assertTrue(stable.annotation().desc().startsWith("Revision "));
+
+						RegisteredMember<Command> churn = matcher.getMatch("churn", new String[] {"child"});
+
+						if (churn != null) {
+							assertEquals("churn.child", churn.annotation().name());
+						}
+
+						lookups.incrementAndGet();
+					}
+				} catch (Throwable throwable) {
+					failure.compareAndSet(null, throwable);
+				}
+			}, "CommandTrie-Reader-" + i);
+
+			reader.start();
+			readers.add(reader);
+		}
+
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+
+		try {
+			for (int i = 0; i < ITERATIONS && failure.get() == null; i++) {
+				int revision = i;
+
+				commandFramework.registerCommands(new ChurnCommand());
+				commandFramework.updateCommandAttributes("stable.sub", builder -> builder.desc("Revision " + revision));
+				commandFramework.unregisterCommand("churn");
+			}
+		} finally {
+			running.set(false);
+
+			for (Thread reader : readers) {
+				reader.join(TimeUnit.SECONDS.toMillis(10));
+			}
+		}
+
+		assertNull(failure.get(), () -> "Lookup observed an inconsistent tree: " + failure.get());
+		assertTrue(lookups.get() > 0);
+		assertEquals("Revision " + (ITERATIONS - 1), matcher.getMatch("stable", new String[] {"sub"}).annotation().desc());
+		assertNull(matcher.getMatch("churn", new String[0]));
+	}
+
+	@Test
+	void testCachedMatchesAreInvalidatedOnMutation() {
+		CommandFramework commandFramework = new CommandFrameworkMock(plugin);
+		commandFramework.registerCommands(new StableCommand());
+
+		CommandRegistry.CommandMatcher matcher = FrameworkContext.getInstance().getRegistry().getCommandMatcher();
+		String[] arguments = {"sub", "arg"};
+		long hits = commandFramework.getCommandCacheHits(), misses = commandFramework.getCommandCacheMisses();
+
+		assertEquals("Revision initial", matcher.getCachedMatch("stable", arguments).member().annotation().desc());
+		assertEquals("Revision initial", matcher.getCachedMatch("stable", arguments).member().annotation().desc());
+		assertEquals(hits + 1, commandFramework.getCommandCacheHits());
+		assertEquals(misses + 1, commandFramework.getCommandCacheMisses());
+
+		commandFramework.updateCommandAttributes("stable.sub", builder -> builder.desc("Revision updated"));
+
+		assertEquals("Revision updated", matcher.getCachedMatch("stable", arguments).member().annotation().desc());
+		assertEquals(misses + 2, commandFramework.getCommandCacheMisses());
+	}
+
+	public static class StableCommand {
+
+		@Command(name = "stable.sub", desc = "Revision initial")
+		public void stableSubCommand(CommandArguments arguments) {
+		}
+	}
+
+	public static class ChurnCommand {
+
+		@Command(name = "churn")
+		public void churnCommand(CommandArguments arguments) {
+		}
+
+		@Command(name = "churn.child")
+		public void churnChildCommand(CommandArguments arguments) {
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.test;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.MockPlugin;
+import be.seeseemelk.mockbukkit.ServerMock;
+import dev.despical.commandframework.internal.MainThreadExecutor;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that the tasks submitted to the main thread executor are run by a
+ * single task on the next tick, and that it recovers if that task can not
+ * be scheduled.
+ *
+ * @author Despical
+ * <p>
+ * Created at 17.10.2026
+ */
+class MainThreadExecutorTest {
+
+	private ServerMock server;
+	private MockPlugin plugin;
+	private AtomicInteger scheduled;
+
+	@BeforeEach
+	void setUp() {
+		server = MockBukkit.mock();
+		plugin = MockBukkit.createMockPlugin("CommandFramework");
+		scheduled = new AtomicInteger();
+	}
+
+	@AfterEach
+	void tearDown() {
+		MockBukkit.unmock();
+	}
+
+	@Test
+	void testTasksOfOneTickAreRunByASingleDrain() {
+		MainThreadExecutor executor = new MainThreadExecutor(plugin, scheduler(0));
+		List<Integer> executed = new ArrayList<>();
+
+		executor.execute(() -> executed.add(1));
+		executor.execute(() -> executed.add(2));
+		executor.execute(() -> executed.add(3));
+
+		assertEquals(List.of(), executed);
+		assertEquals(1, scheduled.get());
+
+		server.getScheduler().performOneTick();
+
+		assertEquals(List.of(1, 2, 3), executed);
+	}
+
+	@Test
+	void testTaskSubmittedWhileDrainingRunsOnTheNextTick() {
+		MainThreadExecutor executor = new MainThreadExecutor(plugin, scheduler(0));
+		List<Integer> executed = new ArrayList<>();
+
+		executor.execute(() -> {
+			executed.add(1);
+			executor.execute(() -> executed.add(2));
+		});
+
+		server.getScheduler().performOneTick();
+
+		assertEquals(List.of(1), executed);
+		assertEquals(2, scheduled.get());
+
+		server.getScheduler().performOneTick();
+
+		assertEquals(List.of(1, 2), executed);
+	}
+
+	@Test
+	void testFailingTaskDoesNotStopTheDrain() {
+		MainThreadExecutor executor = new MainThreadExecutor(plugin, scheduler(0));
+		List<Integer> executed = new ArrayList<>();
+
+		executor.execute(() -> {
+			throw new IllegalStateException("Failing task");
+		});
+		executor.execute(() -> executed.add(2));
+
+		server.getScheduler().performOneTick();
+
+		assertEquals(List.of(2), executed);
+	}
+
+	@Test
+	void testTaskIsRejectedIfTheDrainCannotBeScheduled() {
+		MainThreadExecutor executor = new MainThreadExecutor(plugin, scheduler(1));
+		List<Integer> executed = new ArrayList<>();
+
+		assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> executed.add(1)));
+
+		// The next task has to schedule the drain again instead of waiting for the failed one.
+		executor.execute(() -> executed.add(2));
+		server.getScheduler().performOneTick();
+
+		assertEquals(List.of(2), executed);
+		assertEquals(2, scheduled.get());
+	}
+
+	/**
+	 * @param failingCall the number of the call to runTask that fails, or 0 if none fails
+	 * @return the scheduler of the server that counts the scheduled tasks
+	 */
+	private BukkitScheduler scheduler(int failingCall) {
+		return (BukkitScheduler) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {BukkitScheduler.class}, (proxy, method, args) -> {
+			if (method.getName().equals("runTask") && scheduled.incrementAndGet() == failingCall) {
+				throw new IllegalStateException("Plugin is disabled");
+			}
+
+			try {
+				return method.invoke(server.getScheduler(), args);
+			} catch (InvocationTargetException exception) {
+				throw exception.getCause();
+			}
+		});
+	}
+}
@@ -18,15 +18,23 @@
 
 package dev.despical.commandframework.test;
 
+import dev.despical.commandframework.annotations.Flag;
 import dev.despical.commandframework.annotations.Option;
+import dev.despical.commandframework.exceptions.CommandException;
+import dev.despical.commandframework.internal.ParameterHandler;
 import dev.despical.commandframework.parser.OptionParser;
+import dev.despical.commandframework.parser.OptionSchema;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -77,6 +85,70 @@ class OptionParserTest {
         assertTrue(values.contains("beta"));
     }
 
+    @Test
+    void test_positionalArguments_keepOrderWithoutOptionsAndFlags() throws NoSuchMethodException {
+        String[] args = {"first", "--players=berke", "second", "--verbose", "first", "--players=other"};
+        Method method = OptionParserTestMethods.class.getMethod("optionWithFlag");
+        OptionParser parser = new OptionParser(args, method);
+
+        assertEquals(List.of("berke"), parser.parseOptions().get("players"));
+        assertTrue(parser.parseFlags().contains("verbose"));
+        assertEquals(List.of("first", "second", "first", "--players=other"), parser.getPositionalArguments());
+    }
+
+    @Test
+    void test_customValueSeparator_isNotARegex() throws NoSuchMethodException {
+        String[] args = {"--teams=red|blue||", "--other=value"};
+        Map<String, List<String>> parsedOptions = parseOptions("pipeSeparatedOption", args);
+
+        assertEquals(List.of("red", "blue"), parsedOptions.get("teams"));
+        assertEquals(1, parsedOptions.size());
+    }
+
+    @Test
+    void test_optionsWithTheSameName_shareTheirValue() throws NoSuchMethodException {
+        Map<String, List<String>> parsedOptions = parseOptions("sameNameOptions", new String[] {"-players:berke", "--players=despical"});
+
+        assertEquals(Map.of("players", List.of("berke")), parsedOptions);
+        assertEquals(Map.of("players", List.of("mrdespi", "despical")), parseOptions("sameNameOptions", new String[] {"--players=mrdespi,despical"}));
+    }
+
+    @Test
+    void test_typedOptions_areConvertedOnceWhileParsing() throws NoSuchMethodException {
+        Method method = OptionParserTestMethods.class.getMethod("typedOptions");
+        OptionSchema schema = new ParameterHandler().bindOptions(method, OptionSchema.compile(new Flag[0], method.getAnnotationsByType(Option.class)));
+        String[] args = {"--amount=3,5", "--time=1h30m", "--unit=SECONDS", "--invalid=abc"};
+
+        OptionSchema.Result result = schema.parse(args, 0, args.length);
+
+        assertEquals(List.of(3, 5), result.typedOptions().get("amount").values());
+        assertEquals(List.of(Duration.ofMinutes(90)), result.typedOptions().get("time").values());
+        assertEquals(List.of(TimeUnit.SECONDS), result.typedOptions().get("unit").values());
+        assertNull(result.typedOptions().get("invalid").values());
+        assertEquals(List.of("abc"), result.options().get("invalid"));
+    }
+
+    @Test
+    void test_typedOptions_useTheSameParsingAsArguments() throws NoSuchMethodException {
+        Method method = OptionParserTestMethods.class.getMethod("parsedOptions");
+        OptionSchema schema = new ParameterHandler().bindOptions(method, OptionSchema.compile(new Flag[0], method.getAnnotationsByType(Option.class)));
+        String[] args = {"--enabled=yes", "--hidden=off", "--count=1e3"};
+
+        OptionSchema.Result result = schema.parse(args, 0, args.length);
+
+        assertEquals(List.of(true), result.typedOptions().get("enabled").values());
+        assertEquals(List.of(false), result.typedOptions().get("hidden").values());
+        assertNull(result.typedOptions().get("count").values());
+    }
+
+    @Test
+    void test_typedOptions_unsupportedTypeFailsAtRegistration() throws NoSuchMethodException {
+        Method method = OptionParserTestMethods.class.getMethod("unsupportedOption");
+        OptionSchema schema = OptionSchema.compile(new Flag[0], method.getAnnotationsByType(Option.class));
+
+        assertThrows(CommandException.class, () -> new ParameterHandler().bindOptions(method, schema));
+    }
+
     public static class OptionParserTestMethods {
 
         @Option("players")
@@ -87,5 +159,30 @@ class OptionParserTest {
 
         @Option(value = "teams", prefix = ".", keySeparator = ":")
         public void customOption() {}
+
+        @Option("players")
+        @Flag("verbose")
+        public void optionWithFlag() {}
+
+        @Option(value = "teams", valueSeparator = "|")
+        public void pipeSeparatedOption() {}
+
+        @Option(value = "players", prefix = "-", keySeparator = ":", allowSeparating = false)
+        @Option("players")
+        public void sameNameOptions() {}
+
+        @Option(value = "amount", type = int.class)
+        @Option(value = "time", type = Duration.class)
+        @Option(value = "unit", type = TimeUnit.class)
+        @Option(value = "invalid", type = Long.class)
+        public void typedOptions() {}
+
+        @Option(value = "enabled", type = boolean.class)
+        @Option(value = "hidden", type = Boolean.class)
+        @Option(value = "count", type = int.class)
+        public void parsedOptions() {}
+
+        @Option(value = "unsupported", type = Object.class)
+        public void unsupportedOption() {}
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Command Framework - Annotation based command framework
+ * Copyright (C) 2026  Berke Akçen
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+
+package dev.despical.commandframework.test;
+
+import dev.despical.commandframework.parser.TextView;
+import dev.despical.commandframework.parser.ValueParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Despical
+ * <p>
+ * Created at 16.10.2026
+ */
+class ValueParserTest {
+
+	@Test
+	void testIntegers() {
+		assertEquals(OptionalInt.of(42), ValueParser.parseInt("42"));
+		assertEquals(OptionalInt.of(-7), ValueParser.parseInt("-7"));
+		assertEquals(OptionalInt.of(7), ValueParser.parseInt("+7"));
+		assertEquals(OptionalInt.of(Integer.MIN_VALUE), ValueParser.parseInt("-2147483648"));
+		assertEquals(OptionalInt.empty(), ValueParser.parseInt("2147483648"));
+		assertEquals(OptionalInt.empty(), ValueParser.parseInt("abc"));
+		assertEquals(OptionalInt.empty(), ValueParser.parseInt("-"));
+		assertEquals(OptionalInt.empty(), ValueParser.parseInt(""));
+		assertEquals(OptionalInt.empty(), ValueParser.parseInt(null));
+		assertEquals(5, ValueParser.parseInt("1.5", 5));
+
+		assertEquals(OptionalLong.of(Long.MIN_VALUE), ValueParser.parseLong("-9223372036854775808"));
+		assertEquals(OptionalLong.of(Long.MAX_VALUE), ValueParser.parseLong("9223372036854775807"));
+		assertEquals(OptionalLong.empty(), ValueParser.parseLong("9223372036854775808"));
+	}
+
+	@Test
+	void testDecimals() {
+		assertEquals(OptionalDouble.of(1.5), ValueParser.parseDouble("1.5"));
+		assertEquals(OptionalDouble.of(-0.25), ValueParser.parseDouble("-.25"));
+		assertEquals(OptionalDouble.of(3.0), ValueParser.parseDouble("3."));
+		assertEquals(OptionalDouble.of(1200.0), ValueParser.parseDouble("1.2e3"));
+		assertEquals(OptionalDouble.empty(), ValueParser.parseDouble("."));
+		assertEquals(OptionalDouble.empty(), ValueParser.parseDouble("1e"));
+		assertEquals(OptionalDouble.empty(), ValueParser.parseDouble("NaN"));
+		assertEquals(OptionalDouble.empty(), ValueParser.parseDouble("Infinity"));
+		assertEquals(OptionalDouble.empty(), ValueParser.parseDouble("1e400"));
+		assertEquals(OptionalDouble.empty(), ValueParser.parseDouble("1.5d"));
+		assertEquals(2.5F, ValueParser.parseFloat("2.5", 0F));
+		assertEquals(0.1, ValueParser.parseDouble("0.1", 0D));
+		assertEquals(0.1F, ValueParser.parseFloat("0.1", 0F));
+		assertEquals(Double.parseDouble("123456789012345678.9"), ValueParser.parseDouble("123456789012345678.9", 0D));
+		assertEquals(1250.75, ValueParser.parseDouble(new TextView("pay 1250.75", 4, 11), 0D));
+	}
+
+	@Test
+	void testLenientDecimals() {
+		for (String input : new String[] {"1.5", "1f", "-2.5D", " 3 ", "NaN", "-Infinity", "0x1.8p1", "1e400"}) {
+			assertTrue(ValueParser.isLenientDouble(input), input);
+			assertEquals(Double.parseDouble(input), ValueParser.parseLenientDouble(input, 0D), input);
+			assertEquals(Float.parseFloat(input), ValueParser.parseLenientFloat(input, 0F), input);
+		}
+
+		for (String input : new String[] {"", " ", "abc", "1.5x", "NaNf", "0x1.8", "1e", "."}) {
+			assertFalse(ValueParser.isLenientDouble(input), input);
+			assertEquals(-1D, ValueParser.parseLenientDouble(input, -1D), input);
+		}
+
+		assertFalse(ValueParser.isLenientDouble(null));
+	}
+
+	@Test
+	void testBooleans() {
+		assertEquals(Optional.of(true), ValueParser.parseBoolean("TRUE"));
+		assertEquals(Optional.of(true), ValueParser.parseBoolean("yes"));
+		assertEquals(Optional.of(true), ValueParser.parseBoolean("On"));
+		assertEquals(Optional.of(false), ValueParser.parseBoolean("off"));
+		assertEquals(Optional.of(false), ValueParser.parseBoolean("no"));
+		assertEquals(Optional.empty(), ValueParser.parseBoolean("maybe"));
+	}
+
+	@Test
+	void testDurations() {
+		assertEquals(OptionalLong.of(5_400_000L), ValueParser.parseDuration("1h30m"));
+		assertEquals(OptionalLong.of(30_000L), ValueParser.parseDuration("30"));
+		assertEquals(OptionalLong.of(1_250L), ValueParser.parseDuration("1s250ms"));
+		assertEquals(OptionalLong.of(691_200_000L), ValueParser.parseDuration("1W1D"));
+		assertEquals(OptionalLong.empty(), ValueParser.parseDuration("1h30"));
+		assertEquals(OptionalLong.empty(), ValueParser.parseDuration("h"));
+		assertEquals(OptionalLong.empty(), ValueParser.parseDuration("1y"));
+		assertEquals(OptionalLong.empty(), ValueParser.parseDuration("99999999999999999w"));
+	}
+}